@@ -0,0 +1,82 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.ui.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del motor de juego: Game.guess, Game.isFinished y GameState.fromGame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    
+    private static final String LETTERS = "EAOSRNIDLCTUMPBGVYQHFZJXKW";
+    
+    private WordBank bank;
+    private Game game;
+    private Game midGame;
+    
+    @Setup
+    public void setup() {
+        bank = new WordBank(SyntheticWords.entries(10_000), 42L);
+        game = new Game(bank, new GameConfig(Difficulty.FACIL));
+        
+        // Partida a medio camino: algunas letras intentadas, sin terminar
+        midGame = new Game(bank, new GameConfig(Difficulty.FACIL));
+        do {
+            midGame.startNew(Optional.empty());
+            midGame.guess('E');
+            midGame.guess('A');
+        } while (midGame.isFinished());
+    }
+    
+    /**
+     * Partida completa: startNew más letras hasta terminar.
+     */
+    @Benchmark
+    public int guessFullGame() {
+        game.startNew(Optional.empty());
+        for (int i = 0; i < LETTERS.length() && !game.isFinished(); i++) {
+            game.guess(LETTERS.charAt(i));
+        }
+        return game.getErrors();
+    }
+    
+    /**
+     * Letra repetida sobre una partida en curso (no modifica el estado).
+     */
+    @Benchmark
+    public boolean guessDuplicate() {
+        return midGame.guess('E');
+    }
+    
+    @Benchmark
+    public boolean isFinished() {
+        return midGame.isFinished();
+    }
+    
+    @Benchmark
+    public GameState fromGame() {
+        return GameState.fromGame(midGame);
+    }
+}
@@ -0,0 +1,61 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.WordBank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el costo de Game.guess con métricas activadas y desactivadas.
+ * Como GameMetrics.ENABLED es una constante, cada variante corre en su propio fork.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetricsOverheadBenchmark {
+    
+    private static final String LETTERS = "EAOSRNIDLCTUMPBGVYQHFZJXKW";
+    
+    private Game game;
+    
+    @Setup
+    public void setup() {
+        WordBank bank = new WordBank(SyntheticWords.entries(10_000), 42L);
+        game = new Game(bank, new GameConfig(Difficulty.FACIL));
+    }
+    
+    private int playFullGame() {
+        game.startNew(Optional.empty());
+        for (int i = 0; i < LETTERS.length() && !game.isFinished(); i++) {
+            game.guess(LETTERS.charAt(i));
+        }
+        return game.getErrors();
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dahorcado.metrics=true")
+    public int metricsOn() {
+        return playFullGame();
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dahorcado.metrics=false")
+    public int metricsOff() {
+        return playFullGame();
+    }
+}
@@ -0,0 +1,88 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.data.OffHeapWordStore;
+import com.poo.ahorcado.logic.WordBank;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+/**
+ * Compara pausas de GC entre el banco en el heap y el banco fuera del heap
+ * (OffHeapWordStore) con muchas palabras (10M por defecto).
+ *
+ * Cada modo se ejecuta en su propia JVM (ant gc-compare lanza las dos):
+ *   OffHeapGcComparison heap|offheap
+ *
+ * Después de cargar el banco se simula juego (selección de palabras más
+ * basura de corta vida) y luego se fuerzan varios GC completos. Se reporta
+ * el heap ocupado, los GC durante la simulación y la duración de los GC
+ * completos, que es donde más se nota tener millones de String vivos.
+ *
+ * Propiedades: gc.compare.entries, gc.compare.picks, gc.compare.full
+ */
+public class OffHeapGcComparison {
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "heap";
+        int entries = Integer.getInteger("gc.compare.entries", 10_000_000);
+        int picks = Integer.getInteger("gc.compare.picks", 20_000_000);
+        int fullGcs = Integer.getInteger("gc.compare.full", 5);
+
+        long loadStart = System.nanoTime();
+        WordBank bank;
+        OffHeapWordStore store = null;
+        if ("offheap".equals(mode)) {
+            Path file = SyntheticWords.writeBank(entries);
+            store = OffHeapWordStore.map(file);
+            bank = WordBank.offHeap(store, 42L);
+        } else {
+            bank = new WordBank(SyntheticWords.entries(entries), 42L);
+        }
+        bank.randomAny();   // asegura que el banco terminó de cargar
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        System.gc();
+
+        // Simulación: selecciones y basura de corta vida (GC jóvenes)
+        long[] before = gcTotals();
+        long checksum = 0;
+        for (int i = 0; i < picks; i++) {
+            String word = bank.randomAny().getWord();
+            char[] masked = new char[word.length()];
+            checksum += masked.length + word.charAt(0);
+        }
+        long[] during = gcTotals();
+
+        // GC completos con todo el banco vivo
+        long maxFull = 0;
+        long totalFull = 0;
+        for (int i = 0; i < fullGcs; i++) {
+            long start = System.nanoTime();
+            System.gc();
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            maxFull = Math.max(maxFull, elapsed);
+            totalFull += elapsed;
+        }
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(bank);   // el banco debe seguir vivo durante los GC
+
+        System.out.printf("%-8s entradas=%d carga=%d ms heap=%d MB fuera-del-heap=%d MB%n",
+                mode, entries, loadMillis, heapUsed >> 20, store != null ? store.byteSize() >> 20 : 0);
+        System.out.printf("%-8s simulación: %d GC, %d ms en GC; GC completo: prom %d ms, máx %d ms (checksum %d)%n",
+                mode, during[0] - before[0], during[1] - before[1], totalFull / fullGcs, maxFull, checksum);
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] {count, time};
+    }
+}
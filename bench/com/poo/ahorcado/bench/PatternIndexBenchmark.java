@@ -0,0 +1,115 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.logic.PatternIndex;
+import com.poo.ahorcado.model.WordEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas por patrón ("_A__O" sin E ni S) con PatternIndex frente a
+ * recorrer la lista completa, sobre diccionarios sintéticos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PatternIndexBenchmark {
+
+    private static final int QUERIES = 64;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<WordEntry> entries;
+    private PatternIndex index;
+    private String[] patterns;
+    private String[] excluded;
+    private int next;
+
+    @Setup
+    public void setup() {
+        entries = SyntheticWords.entries(size);
+        index = new PatternIndex(entries);
+
+        // Estados de partida realistas: una palabra del banco con algunas letras
+        // reveladas y otras falladas
+        SplittableRandom random = new SplittableRandom(42L);
+        patterns = new String[QUERIES];
+        excluded = new String[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            String word = entries.get(random.nextInt(size)).getWord();
+            StringBuilder revealed = new StringBuilder();
+            StringBuilder missed = new StringBuilder();
+            for (char c = 'A'; c <= 'Z'; c++) {
+                if (random.nextInt(4) != 0) continue;
+                (word.indexOf(c) >= 0 ? revealed : missed).append(c);
+            }
+            char[] pattern = word.toCharArray();
+            for (int i = 0; i < pattern.length; i++) {
+                if (revealed.indexOf(String.valueOf(pattern[i])) < 0) pattern[i] = PatternIndex.HIDDEN;
+            }
+            patterns[q] = new String(pattern);
+            excluded[q] = missed.toString();
+        }
+    }
+
+    @Benchmark
+    public int indexCount() {
+        int q = next++ & (QUERIES - 1);
+        return index.count(patterns[q], excluded[q]);
+    }
+
+    @Benchmark
+    public int indexIterate() {
+        int q = next++ & (QUERIES - 1);
+        int sum = 0;
+        for (PrimitiveIterator.OfInt ids = index.matches(patterns[q], excluded[q]); ids.hasNext(); ) {
+            sum += ids.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int scanCount() {
+        int q = next++ & (QUERIES - 1);
+        return scan(entries, patterns[q], excluded[q]);
+    }
+
+    /**
+     * Referencia sin índice: compara cada palabra con el patrón (mismas reglas que PatternIndex
+     * para palabras de solo letras).
+     */
+    static int scan(List<WordEntry> entries, String pattern, String excluded) {
+        int count = 0;
+        for (WordEntry e : entries) {
+            String word = e.getWord();
+            if (word.length() != pattern.length()) continue;
+            boolean match = true;
+            for (int i = 0; i < word.length() && match; i++) {
+                char p = pattern.charAt(i);
+                char w = word.charAt(i);
+                match = p == PatternIndex.HIDDEN
+                        ? pattern.indexOf(w) < 0 && excluded.indexOf(w) < 0
+                        : p == w;
+            }
+            if (match) count++;
+        }
+        return count;
+    }
+}
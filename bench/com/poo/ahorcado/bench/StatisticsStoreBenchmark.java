@@ -0,0 +1,68 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.stats.GameResult;
+import com.poo.ahorcado.stats.StatisticsStore;
+import com.poo.ahorcado.stats.StreakLeaderboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta "top 100 por racha" mientras varios hilos ingresan resultados.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsStoreBenchmark {
+    
+    private static final int PLAYERS = 100_000;
+    private static final Difficulty[] LEVELS = Difficulty.values();
+    
+    private StatisticsStore store;
+    private String[] playerIds;
+    
+    @Setup
+    public void setup() {
+        store = new StatisticsStore();
+        playerIds = new String[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) playerIds[i] = "player-" + i;
+    }
+    
+    @State(Scope.Thread)
+    public static class WriterState {
+        SplittableRandom random = new SplittableRandom();
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public void record(WriterState w) {
+        store.record(new GameResult(playerIds[w.random.nextInt(PLAYERS)],
+                LEVELS[w.random.nextInt(LEVELS.length)], w.random.nextInt(3) != 0,
+                w.random.nextInt(8), w.random.nextInt(4), 30_000));
+    }
+    
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public List<StreakLeaderboard.Entry> top100() {
+        return store.topByStreak(100);
+    }
+}
@@ -0,0 +1,109 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.data.WordBankGenerator;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Genera diccionarios sintéticos y deterministas para los benchmarks.
+ * Las palabras usan solo letras A-Z y las categorías configuradas.
+ */
+public final class SyntheticWords {
+    
+    private static final long SEED = 0x5EEDL;
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 12;
+    
+    private SyntheticWords() {
+    }
+    
+    /**
+     * Crea una lista de {@code size} palabras en memoria.
+     */
+    public static List<WordEntry> entries(int size) {
+        Category[] categories = Category.values();
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<WordEntry> entries = new ArrayList<>(size);
+        char[] buffer = new char[MAX_LENGTH];
+        for (int i = 0; i < size; i++) {
+            String word = randomWord(random, buffer);
+            entries.add(new WordEntry(word, categories[i % categories.length], "Pista " + i));
+        }
+        return entries;
+    }
+    
+    /**
+     * Escribe un archivo JSON con el formato de words.json y {@code size} palabras.
+     */
+    public static Path writeJson(int size) throws IOException {
+        Category[] categories = Category.values();
+        SplittableRandom random = new SplittableRandom(SEED);
+        char[] buffer = new char[MAX_LENGTH];
+        Path file = Files.createTempFile("words-" + size + "-", ".json");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"words\":[\n");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) out.write(",\n");
+                out.write("{\"word\":\"");
+                out.write(randomWord(random, buffer));
+                out.write("\",\"category\":\"");
+                out.write(categories[i % categories.length].getName());
+                out.write("\",\"hint\":\"Pista ");
+                out.write(Integer.toString(i));
+                out.write("\"}");
+            }
+            out.write("\n]}\n");
+        }
+        return file;
+    }
+    
+    /**
+     * Escribe un banco binario con el formato de words.bin (ver WordBankGenerator)
+     * y {@code size} palabras repartidas entre las categorías, sin crearlas en el heap.
+     */
+    public static Path writeBank(int size) throws IOException {
+        Category[] categories = Category.values();
+        SplittableRandom random = new SplittableRandom(SEED);
+        char[] buffer = new char[MAX_LENGTH];
+        Path file = Files.createTempFile("words-" + size + "-", ".bin");
+        file.toFile().deleteOnExit();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(WordBankGenerator.MAGIC);
+            out.writeInt(WordBankGenerator.VERSION);
+            out.writeInt(size);
+            out.writeInt(categories.length);
+            int hint = 0;
+            for (int c = 0; c < categories.length; c++) {
+                int count = size / categories.length + (c < size % categories.length ? 1 : 0);
+                out.writeUTF(categories[c].getName());
+                out.writeInt(count);
+                for (int i = 0; i < count; i++) {
+                    out.writeUTF(randomWord(random, buffer));
+                    out.writeUTF("Pista " + hint++);
+                    out.writeFloat(1.0f);
+                }
+            }
+        }
+        return file;
+    }
+    
+    private static String randomWord(SplittableRandom random, char[] buffer) {
+        int length = random.nextInt(MIN_LENGTH, MAX_LENGTH + 1);
+        for (int i = 0; i < length; i++) {
+            buffer[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(buffer, 0, length);
+    }
+}
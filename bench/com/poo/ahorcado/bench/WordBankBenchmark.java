@@ -0,0 +1,52 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de selección de palabras sobre diccionarios sintéticos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class WordBankBenchmark {
+    
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+    
+    private WordBank bank;
+    private Category category;
+    
+    @Setup
+    public void setup() {
+        bank = new WordBank(SyntheticWords.entries(size), 42L);
+        category = Category.values()[0];
+    }
+    
+    @Benchmark
+    public WordEntry randomAny() {
+        return bank.randomAny();
+    }
+    
+    @Benchmark
+    public WordEntry randomByCategory() {
+        return bank.randomByCategory(category);
+    }
+}
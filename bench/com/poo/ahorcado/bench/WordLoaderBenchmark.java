@@ -0,0 +1,56 @@
+package com.poo.ahorcado.bench;
+
+import com.poo.ahorcado.data.WordLoader;
+import com.poo.ahorcado.model.WordEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de carga de palabras (Gson + validación) desde archivos JSON sintéticos.
+ * Es un benchmark de tiempo por operación de un solo disparo por iteración,
+ * porque cada carga de los tamaños grandes tarda segundos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class WordLoaderBenchmark {
+    
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+    
+    private Path file;
+    private WordLoader loader;
+    
+    @Setup
+    public void setup() throws IOException {
+        file = SyntheticWords.writeJson(size);
+        loader = new WordLoader();
+    }
+    
+    @Benchmark
+    public List<WordEntry> loadWords() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return loader.loadWords(reader);
+        }
+    }
+}
@@ -1,23 +1,109 @@
 package com.poo.ahorcado;
 
+import com.poo.ahorcado.data.OffHeapWordStore;
+import com.poo.ahorcado.logic.DailyChallenge;
+import com.poo.ahorcado.logic.DifficultyScorer;
+import com.poo.ahorcado.logic.LocaleBanks;
 import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.logic.event.GameEventLog;
+import com.poo.ahorcado.logic.event.GameEventPublisher;
+import com.poo.ahorcado.profile.FileProfileStore;
+import com.poo.ahorcado.profile.ProfileRepository;
+import com.poo.ahorcado.stats.OutcomeRing;
+import com.poo.ahorcado.stats.StatisticsStore;
 import com.poo.ahorcado.ui.GameController;
 import com.poo.ahorcado.ui.console.ConsoleGameView;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.Scanner;
 
 public class Ahorcado {
     
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         Scanner scanner = new Scanner(System.in);
-        WordBank bank = new WordBank();
+        // Las palabras se cargan en segundo plano mientras se pide la dificultad.
+        // Con -Dahorcado.bank.offheap=words.bin se mapea el banco binario fuera del heap.
+        // Con -Dahorcado.locale=en se usa el banco de /resources/en.
+        String offHeapFile = System.getProperty("ahorcado.bank.offheap");
+        // [-Dahorcado.locale.maxWords=N acota las palabras cargadas entre idiomas]
+        String locale = System.getProperty("ahorcado.locale");
+        LocaleBanks locales = locale != null
+                ? new LocaleBanks("es", Long.getLong("ahorcado.locale.maxWords", LocaleBanks.DEFAULT_MAX_WORDS))
+                : null;
+        WordBank bank;
+        if (offHeapFile != null) {
+            bank = WordBank.offHeap(OffHeapWordStore.map(Path.of(offHeapFile)));
+        } else if (locales != null) {
+            bank = locales.bankAsync(Locale.forLanguageTag(locale));
+        } else {
+            bank = WordBank.loadAsync();
+        }
+        
+        // Dificultad empírica por palabra (Monte Carlo) en segundo plano:
+        // -Dahorcado.difficulty.games=2000 partidas simuladas por palabra
+        Integer simulatedGames = Integer.getInteger("ahorcado.difficulty.games");
+        if (simulatedGames != null && simulatedGames > 0) {
+            bank.scoreDifficulty(new DifficultyScorer(simulatedGames, 42L)).exceptionally(e -> {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                System.err.println("Advertencia: no se pudo calcular la dificultad de las palabras: " + cause);
+                return null;
+            });
+        } else if (simulatedGames != null) {
+            System.err.println("Advertencia: ahorcado.difficulty.games inválido: " + simulatedGames);
+        }
         
         // Crear vista de consola e implementar GameView
         ConsoleGameView view = new ConsoleGameView(scanner);
+        if (locales != null && offHeapFile == null) {
+            Locale language = Locale.forLanguageTag(locale);
+            view.setCategoryNames(c -> locales.displayName(c, language));
+        }
+        
+        // Eventos de la partida (Flow): -Dahorcado.events.log=eventos.log los
+        // agrega a ese archivo, una línea por evento
+        GameEventPublisher events = new GameEventPublisher();
+        String eventsLog = System.getProperty("ahorcado.events.log");
+        if (eventsLog != null) {
+            events.subscribe(new GameEventLog(Files.newBufferedWriter(Path.of(eventsLog), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        }
         
         // Crear controlador que coordina lógica y vista
-        GameController controller = new GameController(bank, view);
-        controller.run();
+        GameController controller = new GameController(bank, view, events);
+        
+        // Palabra del día (igual en todas las máquinas con la misma semilla):
+        // -Dahorcado.daily=true [-Dahorcado.daily.seed=N]
+        if (Boolean.getBoolean("ahorcado.daily")) {
+            controller.setWordSelector(new DailyChallenge(bank, Long.getLong("ahorcado.daily.seed", 20240101L)));
+        }
+        
+        // Estadísticas persistentes opcionales: -Dahorcado.stats.file=stats.json
+        // Perfiles de jugador opcionales:       -Dahorcado.profiles.dir=perfiles
+        // Registro de partidas a prueba de caídas: -Dahorcado.stats.ring=partidas.ring
+        //                                          [-Dahorcado.stats.ring.capacity=N]
+        String statsFile = System.getProperty("ahorcado.stats.file");
+        String profilesDir = System.getProperty("ahorcado.profiles.dir");
+        String ringFile = System.getProperty("ahorcado.stats.ring");
+        String player = System.getProperty("user.name", "local");
+        try (StatisticsStore statistics = statsFile != null ? new StatisticsStore(Path.of(statsFile), 30) : null;
+             ProfileRepository profiles = profilesDir != null
+                     ? new ProfileRepository(new FileProfileStore(Path.of(profilesDir)), 1024, 5000)
+                     : null;
+             OutcomeRing outcomes = ringFile != null
+                     ? OutcomeRing.open(Path.of(ringFile), Integer.getInteger("ahorcado.stats.ring.capacity", 1 << 20))
+                     : null) {
+            if (statistics != null) controller.setStatistics(statistics, player);
+            if (outcomes != null) controller.setOutcomeRing(outcomes);
+            if (profiles != null) controller.setProfiles(profiles, player);
+            controller.run();
+        } finally {
+            events.close();
+        }
         
         scanner.close();
     }
@@ -1,10 +1,12 @@
 package com.poo.ahorcado;
 
+import com.poo.ahorcado.logic.LocaleBanks;
 import com.poo.ahorcado.logic.WordBank;
 import com.poo.ahorcado.ui.GameController;
 import com.poo.ahorcado.ui.swing.SwingGameView;
 
 import javax.swing.SwingUtilities;
+import java.util.Locale;
 
 /**
  * Punto de entrada para la aplicación Swing.
@@ -13,12 +15,22 @@ import javax.swing.SwingUtilities;
 public class SwingApp {
     
     public static void main(String[] args) {
+        // Las palabras se cargan en segundo plano mientras se pide la dificultad.
+        // Con -Dahorcado.locale=en se usa el banco de /resources/en.
+        String locale = System.getProperty("ahorcado.locale");
+        LocaleBanks locales = locale != null
+                ? new LocaleBanks("es", Long.getLong("ahorcado.locale.maxWords", LocaleBanks.DEFAULT_MAX_WORDS))
+                : null;
+        WordBank bank = locales != null ? locales.bankAsync(Locale.forLanguageTag(locale)) : WordBank.loadAsync();
+        
         // Iniciar en el Event Dispatch Thread de Swing
         SwingUtilities.invokeLater(() -> {
-            WordBank bank = new WordBank();
-            
             // Crear vista Swing
             SwingGameView view = new SwingGameView();
+            if (locales != null) {
+                Locale language = Locale.forLanguageTag(locale);
+                view.setCategoryNames(c -> locales.displayName(c, language));
+            }
             
             // Usar el mismo GameController que la versión de consola
             GameController controller = new GameController(bank, view);
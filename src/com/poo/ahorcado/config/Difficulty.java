@@ -2,21 +2,24 @@ package com.poo.ahorcado.config;
 
 /**
  * Representa los niveles de dificultad del juego.
- * Cada dificultad define el número máximo de intentos y pistas disponibles.
+ * Cada dificultad define el número máximo de intentos y pistas disponibles,
+ * y qué hace la pista de letra.
  */
 public enum Difficulty {
-    FACIL(10, 5, "Fácil"),
-    MEDIO(7, 3, "Medio"),
-    DIFICIL(5, 2, "Difícil");
+    FACIL(10, 5, "Fácil", LetterHint.REVEAL),
+    MEDIO(7, 3, "Medio", LetterHint.ENTROPY),
+    DIFICIL(5, 2, "Difícil", LetterHint.ENTROPY);
     
     private final int maxAttempts;
     private final int maxHints;
     private final String displayName;
+    private final LetterHint letterHint;
     
-    Difficulty(int maxAttempts, int maxHints, String displayName) {
+    Difficulty(int maxAttempts, int maxHints, String displayName, LetterHint letterHint) {
         this.maxAttempts = maxAttempts;
         this.maxHints = maxHints;
         this.displayName = displayName;
+        this.letterHint = letterHint;
     }
     
     public int getMaxAttempts() {
@@ -31,6 +34,10 @@ public enum Difficulty {
         return displayName;
     }
     
+    public LetterHint getLetterHint() {
+        return letterHint;
+    }
+    
     /**
      * Obtiene la dificultad por defecto.
      */
@@ -8,11 +8,13 @@ public class GameConfig {
     private final Difficulty difficulty;
     private final int maxAttempts;
     private final int maxHints;
+    private final LetterHint letterHint;
     
     public GameConfig(Difficulty difficulty) {
         this.difficulty = difficulty;
         this.maxAttempts = difficulty.getMaxAttempts();
         this.maxHints = difficulty.getMaxHints();
+        this.letterHint = difficulty.getLetterHint();
     }
     
     public Difficulty getDifficulty() {
@@ -26,5 +28,9 @@ public class GameConfig {
     public int getMaxHints() {
         return maxHints;
     }
+    
+    public LetterHint getLetterHint() {
+        return letterHint;
+    }
 }
 
@@ -0,0 +1,14 @@
+package com.poo.ahorcado.config;
+
+/**
+ * Qué hace la pista de letra (opción 2) en cada dificultad.
+ */
+public enum LetterHint {
+    /** Revela la primera letra oculta de la palabra. */
+    REVEAL,
+    /**
+     * Sugiere, sin jugarla, la letra que mejor divide las palabras que aún
+     * son posibles (máxima entropía). Ver LetterAdvisor.
+     */
+    ENTROPY
+}
@@ -0,0 +1,74 @@
+package com.poo.ahorcado.data;
+
+/**
+ * Conjunto de huellas de 64 bits de palabras, con la categoría de la primera
+ * aparición (direccionamiento abierto sobre arrays primitivos).
+ * 
+ * Ocupa entre 24 y 48 bytes por palabra distinta en lugar de guardar los String,
+ * lo que permite deduplicar archivos muy grandes. Dos palabras distintas con
+ * la misma huella se verían como duplicadas; con 64 bits la probabilidad es
+ * del orden de n²/2^65 (despreciable incluso con cientos de millones).
+ */
+final class FingerprintTable {
+    
+    private long[] keys;
+    private int[] values;
+    private int size;
+    
+    FingerprintTable(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+    
+    /**
+     * Huella de una palabra (FNV-1a de 64 bits más un mezclador final).
+     */
+    static long fingerprint(String word) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= word.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;   // 0 marca una celda vacía
+    }
+    
+    /**
+     * Inserta la huella con su valor si no existe.
+     * @return -1 si se insertó, o el valor de la primera aparición
+     */
+    int putIfAbsent(long key, int value) {
+        int mask = keys.length - 1;
+        int i = (int) key & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) resize();
+        return -1;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0) continue;
+            int i = (int) oldKeys[j] & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.poo.ahorcado.data;
+
+import com.poo.ahorcado.config.CategoryManager;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Banco de palabras fuera del heap (API Foreign Function &amp; Memory).
+ * 
+ * Palabras y pistas se guardan como UTF modificado (el mismo formato que
+ * DataOutputStream.writeUTF y que words.bin), seguidas del peso, en un MemorySegment, ya sea
+ * mapeado desde words.bin o copiado a un Arena. Otros dos segmentos guardan,
+ * por entrada, la posición en los datos y el id de categoría; las entradas
+ * quedan agrupadas por categoría. En el heap solo quedan las categorías y el
+ * inicio de cada grupo, así que el GC no recorre millones de String.
+ * 
+ * Los WordEntry se crean al pedir una entrada (get), no antes.
+ */
+public final class OffHeapWordStore implements AutoCloseable {
+    
+    private static final ValueLayout.OfShort U2 = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt I4 = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat F4 = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    
+    private final Arena arena;           // null si no la cerramos nosotros
+    private final MemorySegment data;
+    private final MemorySegment offsets;     // long por entrada: posición de la palabra (luego pista y peso)
+    private final MemorySegment categoryIds; // short por entrada
+    private final Category[] categories;
+    private final int[] categoryStart;       // entradas de la categoría c: [categoryStart[c], categoryStart[c + 1])
+    
+    private OffHeapWordStore(Arena arena, MemorySegment data, MemorySegment offsets, MemorySegment categoryIds,
+                             Category[] categories, int[] categoryStart) {
+        this.arena = arena;
+        this.data = data;
+        this.offsets = offsets;
+        this.categoryIds = categoryIds;
+        this.categories = categories;
+        this.categoryStart = categoryStart;
+    }
+    
+    /**
+     * Mapea un words.bin generado por WordBankGenerator. La memoria se libera
+     * con close(). Las categorías que ya no estén configuradas se omiten.
+     */
+    public static OffHeapWordStore map(Path wordsBin) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            return map(wordsBin, arena, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Mapea un words.bin en el Arena indicado (que el llamador cierra).
+     */
+    public static OffHeapWordStore map(Path wordsBin, Arena arena) throws IOException {
+        return map(wordsBin, arena, null);
+    }
+    
+    private static OffHeapWordStore map(Path wordsBin, Arena arena, Arena owned) throws IOException {
+        MemorySegment data;
+        try (FileChannel channel = FileChannel.open(wordsBin, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+        if (data.byteSize() < 16 || data.get(I4, 0) != WordBankGenerator.MAGIC
+                || data.get(I4, 4) != WordBankGenerator.VERSION) {
+            throw new IOException("Formato de banco de palabras no reconocido: " + wordsBin);
+        }
+        int total = data.get(I4, 8);
+        int categoryCount = data.get(I4, 12);
+        
+        MemorySegment offsets = arena.allocate(ValueLayout.JAVA_LONG, Math.max(1, total));
+        MemorySegment categoryIds = arena.allocate(ValueLayout.JAVA_SHORT, Math.max(1, total));
+        CategoryManager manager = CategoryManager.getInstance();
+        List<Category> kept = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        int n = 0;
+        long pos = 16;
+        for (int c = 0; c < categoryCount; c++) {
+            String name = readUtf(data, pos);
+            pos = skipUtf(data, pos);
+            int count = data.get(I4, pos);
+            pos += 4;
+            boolean valid = manager.isValidCategory(name);
+            if (valid) {
+                kept.add(Category.fromString(name));
+                starts.add(n);
+            } else {
+                System.err.println("Advertencia: categoría '" + name + "' ya no está configurada, omitiendo "
+                                 + count + " palabra(s).");
+            }
+            for (int i = 0; i < count; i++) {
+                if (valid) {
+                    offsets.setAtIndex(ValueLayout.JAVA_LONG, n, pos);
+                    categoryIds.setAtIndex(ValueLayout.JAVA_SHORT, n, (short) (kept.size() - 1));
+                    n++;
+                }
+                pos = skipUtf(data, skipUtf(data, pos)) + Float.BYTES;   // palabra, pista y peso
+            }
+        }
+        return new OffHeapWordStore(owned, data, offsets, categoryIds,
+                kept.toArray(new Category[0]), starts(starts, n));
+    }
+    
+    /**
+     * Copia una lista de palabras a memoria fuera del heap, agrupándolas por
+     * categoría. La memoria se libera con close().
+     */
+    public static OffHeapWordStore copyOf(List<WordEntry> entries) {
+        Arena arena = Arena.ofShared();
+        try {
+            return copyOf(entries, arena, arena);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Copia una lista de palabras al Arena indicado (que el llamador cierra).
+     */
+    public static OffHeapWordStore copyOf(List<WordEntry> entries, Arena arena) {
+        return copyOf(entries, arena, null);
+    }
+    
+    private static OffHeapWordStore copyOf(List<WordEntry> entries, Arena arena, Arena owned) {
+        // 1ª pasada: categorías, tamaño de cada grupo y bytes totales
+        Map<Category, Integer> ids = new LinkedHashMap<>();
+        List<Integer> counts = new ArrayList<>();
+        long bytes = 0;
+        for (WordEntry e : entries) {
+            Integer id = ids.get(e.getCategory());
+            if (id == null) {
+                id = ids.size();
+                ids.put(e.getCategory(), id);
+                counts.add(0);
+            }
+            counts.set(id, counts.get(id) + 1);
+            bytes += 2 + utfLength(e.getWord()) + 2 + utfLength(e.getTextHint()) + Float.BYTES;
+        }
+        int[] start = new int[ids.size() + 1];
+        for (int c = 0; c < counts.size(); c++) {
+            start[c + 1] = start[c] + counts.get(c);
+        }
+        
+        // 2ª pasada: datos en el orden de la lista, posiciones agrupadas por categoría
+        MemorySegment data = arena.allocate(Math.max(1, bytes));
+        MemorySegment offsets = arena.allocate(ValueLayout.JAVA_LONG, Math.max(1, entries.size()));
+        MemorySegment categoryIds = arena.allocate(ValueLayout.JAVA_SHORT, Math.max(1, entries.size()));
+        int[] cursor = start.clone();
+        long pos = 0;
+        for (WordEntry e : entries) {
+            int id = ids.get(e.getCategory());
+            int slot = cursor[id]++;
+            offsets.setAtIndex(ValueLayout.JAVA_LONG, slot, pos);
+            categoryIds.setAtIndex(ValueLayout.JAVA_SHORT, slot, (short) id);
+            pos = writeUtf(data, writeUtf(data, pos, e.getWord()), e.getTextHint());
+            data.set(F4, pos, (float) e.getWeight());
+            pos += Float.BYTES;
+        }
+        return new OffHeapWordStore(owned, data, offsets, categoryIds,
+                ids.keySet().toArray(new Category[0]), start);
+    }
+    
+    private static int[] starts(List<Integer> starts, int total) {
+        int[] result = new int[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++) result[i] = starts.get(i);
+        result[starts.size()] = total;
+        return result;
+    }
+    
+    public int size() {
+        return categoryStart[categories.length];
+    }
+    
+    /**
+     * Crea el WordEntry de la entrada {@code index}.
+     */
+    public WordEntry get(int index) {
+        long pos = offsets.getAtIndex(ValueLayout.JAVA_LONG, index);
+        Category category = categories[categoryIds.getAtIndex(ValueLayout.JAVA_SHORT, index)];
+        long hint = skipUtf(data, pos);
+        return new WordEntry(readUtf(data, pos), category, readUtf(data, hint), data.get(F4, skipUtf(data, hint)));
+    }
+    
+    /**
+     * Peso de la entrada {@code index}, leído en su lugar sin crear el
+     * WordEntry ni sus String.
+     */
+    public float weight(int index) {
+        long pos = offsets.getAtIndex(ValueLayout.JAVA_LONG, index);
+        return data.get(F4, skipUtf(data, skipUtf(data, pos)));
+    }
+    
+    /**
+     * Índice de la primera entrada de la categoría (las de byCategory()
+     * siguen en orden), o -1 si no está en el store.
+     */
+    public int firstIndex(Category category) {
+        for (int c = 0; c < categories.length; c++) {
+            if (categories[c].equals(category)) return categoryStart[c];
+        }
+        return -1;
+    }
+    
+    /**
+     * Vista de todas las entradas; cada get() crea solo el WordEntry pedido.
+     */
+    public List<WordEntry> asList() {
+        return new View(0, size());
+    }
+    
+    /**
+     * Vistas por categoría, en el orden de las categorías del banco.
+     */
+    public Map<Category, List<WordEntry>> byCategory() {
+        Map<Category, List<WordEntry>> views = new LinkedHashMap<>();
+        for (int c = 0; c < categories.length; c++) {
+            views.put(categories[c], new View(categoryStart[c], categoryStart[c + 1]));
+        }
+        return views;
+    }
+    
+    /**
+     * Bytes fuera del heap usados por datos e índices.
+     */
+    public long byteSize() {
+        return data.byteSize() + offsets.byteSize() + categoryIds.byteSize();
+    }
+    
+    @Override
+    public void close() {
+        if (arena != null) arena.close();
+    }
+    
+    private final class View extends AbstractList<WordEntry> implements RandomAccess {
+        private final int from;
+        private final int to;
+        
+        View(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        public WordEntry get(int index) {
+            if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException(index);
+            return OffHeapWordStore.this.get(from + index);
+        }
+        
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+    
+    // ---- UTF modificado (formato de DataOutputStream.writeUTF) ----
+    
+    private static long skipUtf(MemorySegment segment, long pos) {
+        return pos + 2 + Short.toUnsignedInt(segment.get(U2, pos));
+    }
+    
+    private static String readUtf(MemorySegment segment, long pos) {
+        int length = Short.toUnsignedInt(segment.get(U2, pos));
+        char[] chars = new char[length];
+        int n = 0;
+        long p = pos + 2;
+        long end = p + length;
+        while (p < end) {
+            int b = segment.get(ValueLayout.JAVA_BYTE, p) & 0xFF;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+                p++;
+            } else if ((b & 0xE0) == 0xC0) {
+                int b2 = segment.get(ValueLayout.JAVA_BYTE, p + 1) & 0x3F;
+                chars[n++] = (char) (((b & 0x1F) << 6) | b2);
+                p += 2;
+            } else {
+                int b2 = segment.get(ValueLayout.JAVA_BYTE, p + 1) & 0x3F;
+                int b3 = segment.get(ValueLayout.JAVA_BYTE, p + 2) & 0x3F;
+                chars[n++] = (char) (((b & 0x0F) << 12) | (b2 << 6) | b3);
+                p += 3;
+            }
+        }
+        return new String(chars, 0, n);
+    }
+    
+    private static int utfLength(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            length += (c >= 0x01 && c <= 0x7F) ? 1 : (c <= 0x7FF ? 2 : 3);
+        }
+        if (length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto demasiado largo para el banco: " + s.substring(0, 20) + "...");
+        }
+        return length;
+    }
+    
+    private static long writeUtf(MemorySegment segment, long pos, String s) {
+        segment.set(U2, pos, (short) utfLength(s));
+        long p = pos + 2;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x01 && c <= 0x7F) {
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) c);
+            } else if (c <= 0x7FF) {
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) (0xC0 | (c >> 6)));
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) (0x80 | (c & 0x3F)));
+            } else {
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) (0xE0 | (c >> 12)));
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                segment.set(ValueLayout.JAVA_BYTE, p++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return p;
+    }
+}
@@ -0,0 +1,208 @@
+package com.poo.ahorcado.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Herramienta de build (se ejecuta en -pre-compile).
+ *
+ * Valida words.json contra categories.properties con las mismas reglas que
+ * WordLoader y, si todo es válido, genera words.bin (en el build, uno para
+ * /resources y otro para cada idioma en /resources/&lt;idioma&gt;/): un banco binario ya
+ * normalizado y agrupado por categoría. En producción WordLoader lee ese
+ * archivo directamente, sin Gson ni validación por entrada.
+ *
+ * Si hay entradas inválidas termina con código 1 para que falle el build.
+ *
+ * Uso: WordBankGenerator words.json categories.properties salida/words.bin
+ *      WordBankGenerator --resources recursos/ salida/   (banco principal y uno por idioma)
+ *
+ * Formato de words.bin (DataOutputStream):
+ *   int MAGIC, int VERSION, int total, int categorías,
+ *   por categoría: UTF nombre, int cantidad, y por palabra: UTF palabra, UTF pista, float peso
+ */
+public class WordBankGenerator {
+
+    public static final int MAGIC = 0x41484F52; // "AHOR"
+    public static final int VERSION = 2;   // 2: peso (float) después de cada pista
+
+    public static void main(String[] args) throws IOException {
+        boolean ok;
+        if (args.length == 3 && args[0].equals("--resources")) {
+            ok = generateAll(Path.of(args[1]), Path.of(args[2]));
+        } else if (args.length == 3) {
+            List<String> categories = readCategories(Path.of(args[1]));
+            ok = checkCategories(categories, Path.of(args[1]))
+                    && generate(Path.of(args[0]), categories, Path.of(args[2]));
+        } else {
+            System.err.println("Uso: WordBankGenerator <words.json> <categories.properties> <salida>");
+            System.err.println("     WordBankGenerator --resources <directorio de recursos> <directorio de salida>");
+            System.exit(2);
+            return;
+        }
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Genera words.bin para el directorio de recursos y para cada idioma
+     * (subdirectorio con words.json), en la misma estructura bajo
+     * {@code outputDir}. Las categorías son las mismas en todos los idiomas
+     * (el categories.properties de cada idioma solo tiene nombres), así que
+     * todos se validan contra el del directorio principal.
+     *
+     * @return false si algún banco tiene errores (se informan todos)
+     */
+    static boolean generateAll(Path resourcesDir, Path outputDir) throws IOException {
+        Path categoriesFile = resourcesDir.resolve("categories.properties");
+        List<String> categories = readCategories(categoriesFile);
+        if (!checkCategories(categories, categoriesFile)) return false;
+        boolean ok = generate(resourcesDir.resolve("words.json"), categories, outputDir.resolve("words.bin"));
+
+        List<Path> locales = new ArrayList<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(resourcesDir, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                if (Files.exists(dir.resolve("words.json"))) locales.add(dir);
+            }
+        }
+        locales.sort(null);
+        for (Path dir : locales) {
+            Path output = outputDir.resolve(dir.getFileName().toString()).resolve("words.bin");
+            ok &= generate(dir.resolve("words.json"), categories, output);
+        }
+        return ok;
+    }
+
+    private static boolean checkCategories(List<String> categories, Path file) {
+        if (categories.isEmpty()) {
+            System.err.println("Error: " + file + " no define categorías.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Valida un words.json y, si no tiene errores, escribe su words.bin.
+     *
+     * @return false si el archivo tiene errores (ya informados en System.err)
+     */
+    private static boolean generate(Path wordsFile, List<String> categories, Path output) throws IOException {
+        WordsData data;
+        try (Reader reader = Files.newBufferedReader(wordsFile, StandardCharsets.UTF_8)) {
+            data = new Gson().fromJson(reader, WordsData.class);
+        } catch (JsonParseException e) {
+            System.err.println("Error: " + wordsFile + " no es JSON válido: " + e.getMessage());
+            return false;
+        }
+        if (data == null || data.getWords() == null || data.getWords().isEmpty()) {
+            System.err.println("Error: " + wordsFile + " no contiene palabras.");
+            return false;
+        }
+
+        // Agrupar por categoría en el orden configurado
+        Map<String, List<WordsData.WordData>> byCategory = new LinkedHashMap<>();
+        for (String category : categories) {
+            byCategory.put(category, new ArrayList<>());
+        }
+
+        List<String> errors = new ArrayList<>();
+        List<WordsData.WordData> words = data.getWords();
+        for (int i = 0; i < words.size(); i++) {
+            WordsData.WordData w = words.get(i);
+            String where = "entrada " + (i + 1);
+            if (w == null || isBlank(w.getWord())) {
+                errors.add(where + ": palabra vacía");
+                continue;
+            }
+            where += " ('" + w.getWord() + "')";
+            if (isBlank(w.getHint())) {
+                errors.add(where + ": pista vacía");
+                continue;
+            }
+            if (!w.hasValidWeight()) {
+                errors.add(where + ": peso inválido " + w.getWeight() + " (debe ser un número mayor que 0)");
+                continue;
+            }
+            if (isBlank(w.getCategory())) {
+                errors.add(where + ": categoría vacía");
+                continue;
+            }
+            List<WordsData.WordData> bucket = byCategory.get(w.getCategory().trim().toUpperCase());
+            if (bucket == null) {
+                errors.add(where + ": categoría inválida '" + w.getCategory()
+                        + "'. Categorías válidas: " + String.join(", ", categories));
+                continue;
+            }
+            bucket.add(w);
+        }
+
+        if (!errors.isEmpty()) {
+            System.err.println(wordsFile + " tiene " + errors.size() + " entrada(s) inválida(s):");
+            for (String error : errors) {
+                System.err.println("  - " + error);
+            }
+            return false;
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(words.size());
+            out.writeInt(byCategory.size());
+            for (Map.Entry<String, List<WordsData.WordData>> e : byCategory.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().size());
+                for (WordsData.WordData w : e.getValue()) {
+                    out.writeUTF(w.getWord().trim().toUpperCase());
+                    out.writeUTF(w.getHint().trim());
+                    out.writeFloat((float) w.weightOrDefault());
+                }
+            }
+        }
+        System.out.println("Generado " + output + " con " + words.size() + " palabras en "
+                + byCategory.size() + " categorías.");
+        return true;
+    }
+
+    /**
+     * Lee la lista de categorías igual que CategoryManager, pero sin valores por
+     * defecto: si el archivo no define categorías la lista queda vacía (y el
+     * build debe fallar). También la usa WordPipeline.
+     */
+    static List<String> readCategories(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        List<String> categories = new ArrayList<>();
+        for (String cat : properties.getProperty("categories", "").split(",")) {
+            String trimmed = cat.trim().toUpperCase();
+            if (!trimmed.isEmpty() && !categories.contains(trimmed)) {
+                categories.add(trimmed);
+            }
+        }
+        return categories;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.trim().isEmpty();
+    }
+}
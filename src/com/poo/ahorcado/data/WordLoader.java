@@ -3,12 +3,16 @@ package com.poo.ahorcado.data;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.poo.ahorcado.config.CategoryManager;
+import com.poo.ahorcado.jfr.WordBankLoadEvent;
 import com.poo.ahorcado.model.Category;
 import com.poo.ahorcado.model.WordEntry;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,27 +20,39 @@ import java.util.List;
 /**
  * Carga palabras desde un archivo JSON de recursos usando Gson.
  * 
- * Formato esperado:
+ * Formato esperado ("weight" es opcional; por defecto 1):
  * {
  *   "words": [
- *     {"word": "PALABRA", "category": "CATEGORIA", "hint": "Pista"}
+ *     {"word": "PALABRA", "category": "CATEGORIA", "hint": "Pista", "weight": 2.5}
  *   ]
  * }
  * 
  * Esta implementación usa Gson para parsear JSON de forma robusta
- * y mantenible.
+ * y mantenible. Si el build generó words.bin (ver WordBankGenerator),
+ * se lee ese archivo en su lugar y no se usa Gson.
  */
 public class WordLoader {
     
-    private static final String WORDS_FILE = "/resources/words.json";
-    private final Gson gson;
+    private static final String RESOURCE_DIR = "/resources";
+    private final String wordsFile;
+    private final String bankFile;
+    private Gson gson;
     private final CategoryManager categoryManager;
     
     /**
-     * Constructor por defecto que inicializa Gson y CategoryManager.
+     * Constructor por defecto. Gson se crea solo si hace falta parsear JSON.
      */
     public WordLoader() {
-        this.gson = new GsonBuilder().create();
+        this(RESOURCE_DIR);
+    }
+    
+    /**
+     * Constructor que lee words.bin / words.json de otro directorio de recursos
+     * (por ejemplo "/resources/en" para el banco en inglés).
+     */
+    public WordLoader(String resourceDir) {
+        this.wordsFile = resourceDir + "/words.json";
+        this.bankFile = resourceDir + "/words.bin";
         this.categoryManager = CategoryManager.getInstance();
     }
     
@@ -44,39 +60,126 @@ public class WordLoader {
      * Constructor alternativo que permite inyectar un Gson (útil para testing).
      */
     public WordLoader(Gson gson) {
+        this.wordsFile = RESOURCE_DIR + "/words.json";
+        this.bankFile = RESOURCE_DIR + "/words.bin";
         this.gson = gson;
         this.categoryManager = CategoryManager.getInstance();
     }
     
     /**
-     * Carga todas las palabras desde el archivo JSON de recursos.
+     * Carga todas las palabras de los recursos. Usa el banco binario generado
+     * en el build (words.bin) si existe; si no, parsea words.json.
      * 
      * @return Lista de WordEntry cargadas desde el archivo
      * @throws RuntimeException si no se puede cargar o parsear el archivo
      */
     public List<WordEntry> loadWords() {
-        try (InputStream inputStream = getClass().getResourceAsStream(WORDS_FILE)) {
-            if (inputStream == null) {
-                throw new RuntimeException("No se encontró el archivo de palabras: " + WORDS_FILE);
+        try (InputStream bankStream = getClass().getResourceAsStream(bankFile)) {
+            if (bankStream != null) {
+                return loadBank(new DataInputStream(new BufferedInputStream(bankStream)));
             }
-            
-            // Deserializar JSON usando Gson
-            WordsData wordsData = gson.fromJson(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8), 
-                WordsData.class
-            );
-            
-            // Validar que se cargaron palabras
-            if (wordsData == null || wordsData.getWords() == null || wordsData.getWords().isEmpty()) {
-                throw new RuntimeException("No se cargaron palabras. El archivo está vacío o no tiene formato válido.");
+        } catch (IOException e) {
+            throw new RuntimeException("Error al leer el banco de palabras: " + bankFile, e);
+        }
+        
+        try (InputStream inputStream = getClass().getResourceAsStream(wordsFile)) {
+            if (inputStream == null) {
+                throw new RuntimeException("No se encontró el archivo de palabras: " + wordsFile);
             }
             
-            // Convertir WordData a WordEntry
-            return convertToWordEntries(wordsData.getWords());
+            return loadWords(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
             
         } catch (IOException e) {
-            throw new RuntimeException("Error al leer o parsear el archivo de palabras: " + WORDS_FILE, e);
+            throw new RuntimeException("Error al leer o parsear el archivo de palabras: " + wordsFile, e);
+        }
+    }
+    
+    /**
+     * Carga palabras desde cualquier Reader con el mismo formato JSON
+     * (útil para archivos externos, testing y benchmarks).
+     * 
+     * @param reader fuente del JSON; no se cierra
+     * @return Lista de WordEntry cargadas
+     * @throws RuntimeException si no se puede parsear o no hay palabras válidas
+     */
+    public List<WordEntry> loadWords(Reader reader) {
+        // Deserializar JSON usando Gson
+        WordBankLoadEvent parseEvent = new WordBankLoadEvent();
+        parseEvent.begin();
+        if (gson == null) {
+            gson = new GsonBuilder().create();
+        }
+        WordsData wordsData = gson.fromJson(reader, WordsData.class);
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.phase = WordBankLoadEvent.PARSE;
+            parseEvent.entries = wordsData != null && wordsData.getWords() != null ? wordsData.getWords().size() : 0;
+            parseEvent.commit();
+        }
+        
+        // Validar que se cargaron palabras
+        if (wordsData == null || wordsData.getWords() == null || wordsData.getWords().isEmpty()) {
+            throw new RuntimeException("No se cargaron palabras. El archivo está vacío o no tiene formato válido.");
         }
+        
+        // Convertir WordData a WordEntry
+        WordBankLoadEvent validateEvent = new WordBankLoadEvent();
+        validateEvent.begin();
+        List<WordEntry> entries = convertToWordEntries(wordsData.getWords());
+        validateEvent.end();
+        if (validateEvent.shouldCommit()) {
+            validateEvent.phase = WordBankLoadEvent.VALIDATE;
+            validateEvent.entries = entries.size();
+            validateEvent.skipped = wordsData.getWords().size() - entries.size();
+            validateEvent.commit();
+        }
+        return entries;
+    }
+    
+    /**
+     * Lee el banco binario generado por WordBankGenerator. Las entradas ya fueron
+     * validadas y normalizadas en el build; aquí solo se verifica cada categoría
+     * (una vez, no por palabra) por si categories.properties cambió después.
+     */
+    private List<WordEntry> loadBank(DataInputStream in) throws IOException {
+        WordBankLoadEvent event = new WordBankLoadEvent();
+        event.begin();
+        if (in.readInt() != WordBankGenerator.MAGIC || in.readInt() != WordBankGenerator.VERSION) {
+            throw new RuntimeException("Formato de banco de palabras no reconocido: " + bankFile);
+        }
+        int total = in.readInt();
+        int categoryCount = in.readInt();
+        List<WordEntry> entries = new ArrayList<>(total);
+        int skipped = 0;
+        for (int c = 0; c < categoryCount; c++) {
+            String name = in.readUTF();
+            int count = in.readInt();
+            Category category = categoryManager.isValidCategory(name) ? Category.fromString(name) : null;
+            if (category == null) {
+                System.err.println("Advertencia: categoría '" + name + "' ya no está configurada, omitiendo "
+                                 + count + " palabra(s).");
+                skipped += count;
+            }
+            for (int i = 0; i < count; i++) {
+                String word = in.readUTF();
+                String hint = in.readUTF();
+                float weight = in.readFloat();
+                if (category != null) {
+                    entries.add(new WordEntry(word, category, hint, weight));
+                }
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = WordBankLoadEvent.PARSE;
+            event.entries = entries.size();
+            event.skipped = skipped;
+            event.commit();
+        }
+        if (entries.isEmpty()) {
+            throw new RuntimeException("No se pudo cargar ninguna palabra válida desde el archivo.");
+        }
+        return entries;
     }
     
     /**
@@ -103,6 +206,12 @@ public class WordLoader {
                     continue;
                 }
                 
+                if (!wordData.hasValidWeight()) {
+                    System.err.println("Advertencia: peso inválido (" + wordData.getWeight() + ") para palabra '"
+                                     + wordData.getWord() + "', omitiendo entrada.");
+                    continue;
+                }
+                
                 // Validar y convertir categoría usando CategoryManager
                 String categoryStr = wordData.getCategory().toUpperCase().trim();
                 
@@ -128,7 +237,8 @@ public class WordLoader {
                 entries.add(new WordEntry(
                     wordData.getWord().trim().toUpperCase(),
                     category,
-                    wordData.getHint().trim()
+                    wordData.getHint().trim(),
+                    wordData.weightOrDefault()
                 ));
                 
             } catch (Exception e) {
@@ -0,0 +1,105 @@
+package com.poo.ahorcado.data;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normaliza y valida una entrada de words.json (usado por WordPipeline).
+ * 
+ * Normalización: Unicode NFC, espacios al inicio/fin eliminados, espacios
+ * internos colapsados a uno y mayúsculas. Una palabra es válida si solo
+ * tiene letras y espacios: Game enmascara cualquier otro carácter como '_'
+ * y el controlador solo acepta letras, así que la partida no se podría ganar.
+ */
+final class WordNormalizer {
+    
+    /**
+     * Motivos por los que una entrada se descarta.
+     */
+    enum Issue {
+        EMPTY_WORD,
+        EMPTY_HINT,
+        EMPTY_CATEGORY,
+        UNKNOWN_CATEGORY,
+        UNSUPPORTED_CHAR,
+        INVALID_WEIGHT,
+        DUPLICATE,
+        CONFLICT
+    }
+    
+    /**
+     * Entrada normalizada, o descartada si {@code issue} no es null.
+     */
+    static final class Entry {
+        final long index;
+        final String word;
+        final String category;
+        final int categoryIndex;
+        final String hint;
+        final Double weight;
+        Issue issue;
+        String detail;
+        
+        Entry(long index, String word, String category, int categoryIndex, String hint, Double weight) {
+            this.index = index;
+            this.word = word;
+            this.category = category;
+            this.categoryIndex = categoryIndex;
+            this.hint = hint;
+            this.weight = weight;
+        }
+        
+        Entry reject(Issue issue, String detail) {
+            this.issue = issue;
+            this.detail = detail;
+            return this;
+        }
+    }
+    
+    private final List<String> categories;
+    
+    WordNormalizer(List<String> categories) {
+        this.categories = categories;
+    }
+    
+    Entry normalize(long index, WordsData.WordData data) {
+        String word = data == null ? "" : normalizeWord(data.getWord());
+        String category = data == null || data.getCategory() == null ? "" : data.getCategory().trim().toUpperCase(Locale.ROOT);
+        String hint = data == null || data.getHint() == null ? "" : data.getHint().trim();
+        Entry entry = new Entry(index, word, category, categories.indexOf(category), hint,
+                data == null ? null : data.getWeight());
+        
+        if (word.isEmpty()) return entry.reject(Issue.EMPTY_WORD, null);
+        if (hint.isEmpty()) return entry.reject(Issue.EMPTY_HINT, null);
+        if (category.isEmpty()) return entry.reject(Issue.EMPTY_CATEGORY, null);
+        if (entry.categoryIndex < 0) return entry.reject(Issue.UNKNOWN_CATEGORY, category);
+        if (!data.hasValidWeight()) return entry.reject(Issue.INVALID_WEIGHT, String.valueOf(data.getWeight()));
+        
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c != ' ' && (!Character.isLetter(c) || Character.toUpperCase(c) != c)) {
+                return entry.reject(Issue.UNSUPPORTED_CHAR, String.format("'%c' (U+%04X)", c, (int) c));
+            }
+        }
+        return entry;
+    }
+    
+    static String normalizeWord(String raw) {
+        if (raw == null) return "";
+        String s = Normalizer.normalize(raw, Normalizer.Form.NFC).trim();
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) sb.append(' ');
+            space = false;
+            sb.append(c);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+}
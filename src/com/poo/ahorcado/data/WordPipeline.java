@@ -0,0 +1,372 @@
+package com.poo.ahorcado.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.poo.ahorcado.config.CategoryManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limpieza de archivos de palabras muy grandes (herramienta independiente).
+ * 
+ * Etapas, conectadas por colas acotadas:
+ *   1. lectura: JsonReader recorre el array "words" sin cargar el archivo
+ *      completo y agrupa las entradas en lotes numerados
+ *   2. normalización y validación (WordNormalizer), en N hilos en paralelo
+ *   3. deduplicación y conflictos, en un hilo: reordena los lotes por número,
+ *      así que la salida conserva el orden del archivo, y guarda solo una
+ *      huella de 64 bits por palabra (FingerprintTable)
+ * 
+ * La lectura y la deduplicación/escritura son de un solo hilo cada una:
+ * solo la normalización escala con {@code workers}, así que con muchos
+ * hilos el límite pasa a ser el parseo del JSON o la escritura.
+ * 
+ * Si un hilo de normalización falla (RuntimeException o Error), su lote se
+ * pierde: el hilo avisa a la deduplicación, que se detiene, y run relanza
+ * el error en lugar de quedarse esperando ese lote.
+ * 
+ * La memoria queda acotada por el número de lotes en vuelo (un semáforo
+ * limita cuántos puede haber entre la lectura y la deduplicación) más la
+ * tabla de huellas. El reporte guarda los contadores completos, pero solo
+ * los primeros {@code --max-issues} detalles.
+ * 
+ * Uso: WordPipeline entrada.json salida.json reporte.json
+ *        [--categories categories.properties] [--workers N] [--max-issues N]
+ * 
+ * La salida tiene el formato de words.json; el reporte es JSON (ver Report).
+ */
+public class WordPipeline {
+    
+    private static final int BATCH_SIZE = 1024;
+    
+    private final WordNormalizer normalizer;
+    private final List<String> categories;
+    private final int workers;
+    private final int maxIssues;
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    
+    public WordPipeline(List<String> categories, int workers, int maxIssues) {
+        this.categories = categories;
+        this.normalizer = new WordNormalizer(categories);
+        this.workers = workers;
+        this.maxIssues = maxIssues;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Uso: WordPipeline <entrada.json> <salida.json> <reporte.json> "
+                    + "[--categories archivo] [--workers N] [--max-issues N]");
+            System.exit(2);
+        }
+        List<String> categories = null;
+        int workers = Runtime.getRuntime().availableProcessors();
+        int maxIssues = 1000;
+        for (int i = 3; i < args.length; i++) {
+            switch (args[i]) {
+                case "--categories": categories = WordBankGenerator.readCategories(Path.of(args[++i])); break;
+                case "--workers":    workers = Integer.parseInt(args[++i]); break;
+                case "--max-issues": maxIssues = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("Argumento no reconocido: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (categories == null) {
+            categories = CategoryManager.getInstance().getCategories();
+        }
+        
+        WordPipeline pipeline = new WordPipeline(categories, workers, maxIssues);
+        Report report;
+        try (Reader in = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8);
+             Writer out = Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)) {
+            report = pipeline.run(in, out);
+        }
+        try (Writer reportOut = Files.newBufferedWriter(Path.of(args[2]), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(report, reportOut);
+        }
+        System.out.printf("Leídas %d, escritas %d, descartadas %d (%d duplicadas, %d en conflicto) "
+                + "en %d ms (%.0f entradas/s, %d hilos)%n",
+                report.read, report.written, report.read - report.written,
+                report.issueCounts.getOrDefault(WordNormalizer.Issue.DUPLICATE.name(), 0L),
+                report.issueCounts.getOrDefault(WordNormalizer.Issue.CONFLICT.name(), 0L),
+                report.elapsedMillis, report.entriesPerSecond, report.workers);
+    }
+    
+    /**
+     * Ejecuta el pipeline completo. No cierra {@code in} ni {@code out}.
+     */
+    public Report run(Reader in, Writer out) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        int inFlight = workers * 4;
+        Semaphore permits = new Semaphore(inFlight);
+        BlockingQueue<Batch> parsed = new ArrayBlockingQueue<>(inFlight);
+        BlockingQueue<Batch> normalized = new ArrayBlockingQueue<>(inFlight);
+        
+        ExecutorService pool = Executors.newFixedThreadPool(workers + 1, r -> {
+            Thread t = new Thread(r, "word-pipeline");
+            t.setDaemon(true);
+            return t;
+        });
+        Throwable[] readError = new Throwable[1];
+        AtomicReference<Throwable> workerError = new AtomicReference<>();
+        try {
+            // 1. lectura
+            pool.execute(() -> {
+                try {
+                    read(in, parsed, permits);
+                } catch (Throwable e) {
+                    readError[0] = e;
+                } finally {
+                    for (int w = 0; w < workers; w++) putUninterruptibly(parsed, Batch.END);
+                }
+            });
+            // 2. normalización y validación
+            for (int w = 0; w < workers; w++) {
+                pool.execute(() -> normalize(parsed, normalized, workerError));
+            }
+            // 3. deduplicación y escritura (en este hilo)
+            Report report = dedupAndWrite(normalized, permits, out);
+            Throwable failed = workerError.get();
+            if (failed instanceof Error error) {
+                throw error;
+            }
+            if (failed != null) {
+                throw (RuntimeException) failed;
+            }
+            if (readError[0] != null) {
+                throw new IOException("Error al leer el archivo de palabras: " + readError[0].getMessage(), readError[0]);
+            }
+            report.workers = workers;
+            report.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            report.entriesPerSecond = report.read * 1_000_000_000.0 / Math.max(1, System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    private void read(Reader in, BlockingQueue<Batch> parsed, Semaphore permits)
+            throws IOException, InterruptedException {
+        JsonReader json = new JsonReader(in);
+        json.beginObject();
+        long seq = 0;
+        long index = 0;
+        while (json.hasNext()) {
+            if (!"words".equals(json.nextName())) {
+                json.skipValue();
+                continue;
+            }
+            json.beginArray();
+            List<WordsData.WordData> items = new ArrayList<>(BATCH_SIZE);
+            while (json.hasNext()) {
+                items.add(gson.fromJson(json, WordsData.WordData.class));
+                if (items.size() == BATCH_SIZE) {
+                    permits.acquire();
+                    parsed.put(new Batch(seq++, index, items));
+                    index += items.size();
+                    items = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!items.isEmpty()) {
+                permits.acquire();
+                parsed.put(new Batch(seq++, index, items));
+            }
+            json.endArray();
+        }
+        json.endObject();
+    }
+    
+    /**
+     * Normaliza lotes hasta recibir END. Si falla, guarda el primer error en
+     * {@code failure} y termina con ABORT en lugar de END.
+     */
+    private void normalize(BlockingQueue<Batch> parsed, BlockingQueue<Batch> normalized,
+                           AtomicReference<Throwable> failure) {
+        Batch last = Batch.END;
+        try {
+            Batch batch;
+            while ((batch = parsed.take()) != Batch.END) {
+                List<WordNormalizer.Entry> entries = new ArrayList<>(batch.items.size());
+                for (int i = 0; i < batch.items.size(); i++) {
+                    entries.add(normalizer.normalize(batch.firstIndex + i, batch.items.get(i)));
+                }
+                batch.entries = entries;
+                batch.items = null;
+                normalized.put(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+            last = Batch.ABORT;
+        } finally {
+            putUninterruptibly(normalized, last);
+        }
+    }
+    
+    /**
+     * Retorna null si un hilo de normalización abortó (run relanza su error).
+     */
+    private Report dedupAndWrite(BlockingQueue<Batch> normalized, Semaphore permits, Writer out)
+            throws IOException, InterruptedException {
+        Report report = new Report();
+        Map<WordNormalizer.Issue, Long> counts = new EnumMap<>(WordNormalizer.Issue.class);
+        FingerprintTable seen = new FingerprintTable(1 << 16);
+        Map<Long, Batch> pending = new HashMap<>();
+        long next = 0;
+        int ended = 0;
+        
+        JsonWriter json = new JsonWriter(out);
+        json.setIndent("  ");
+        json.beginObject();
+        json.name("words");
+        json.beginArray();
+        while (ended < workers) {
+            Batch batch = normalized.take();
+            if (batch == Batch.ABORT) {
+                // falta un lote: no se puede seguir escribiendo en orden
+                return null;
+            }
+            if (batch == Batch.END) {
+                ended++;
+                continue;
+            }
+            pending.put(batch.seq, batch);
+            // procesar en orden de lectura
+            while ((batch = pending.remove(next)) != null) {
+                for (WordNormalizer.Entry e : batch.entries) {
+                    report.read++;
+                    if (e.issue == null) {
+                        int first = seen.putIfAbsent(FingerprintTable.fingerprint(e.word), e.categoryIndex);
+                        if (first == e.categoryIndex) {
+                            e.reject(WordNormalizer.Issue.DUPLICATE, e.category);
+                        } else if (first >= 0) {
+                            e.reject(WordNormalizer.Issue.CONFLICT, "ya aparece en " + categories.get(first));
+                        }
+                    }
+                    if (e.issue == null) {
+                        writeEntry(json, e);
+                        report.written++;
+                    } else {
+                        counts.merge(e.issue, 1L, Long::sum);
+                        if (report.issues.size() < maxIssues) {
+                            report.issues.add(new Issue(e));
+                        }
+                    }
+                }
+                permits.release();
+                next++;
+            }
+        }
+        json.endArray();
+        json.endObject();
+        json.flush();
+        
+        report.distinctWords = seen.size();
+        for (Map.Entry<WordNormalizer.Issue, Long> c : counts.entrySet()) {
+            report.issueCounts.put(c.getKey().name(), c.getValue());
+        }
+        return report;
+    }
+    
+    private static void writeEntry(JsonWriter json, WordNormalizer.Entry e) throws IOException {
+        json.beginObject();
+        json.name("word").value(e.word);
+        json.name("category").value(e.category);
+        json.name("hint").value(e.hint);
+        if (e.weight != null) {
+            json.name("weight").value(e.weight);
+        }
+        json.endObject();
+    }
+    
+    private static void putUninterruptibly(BlockingQueue<Batch> queue, Batch batch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(batch);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+    
+    /**
+     * Lote de entradas que pasa por las etapas.
+     */
+    private static final class Batch {
+        static final Batch END = new Batch(-1, -1, null);
+        /** Un hilo de normalización falló y su lote se perdió. */
+        static final Batch ABORT = new Batch(-1, -1, null);
+        
+        final long seq;
+        final long firstIndex;
+        List<WordsData.WordData> items;
+        List<WordNormalizer.Entry> entries;
+        
+        Batch(long seq, long firstIndex, List<WordsData.WordData> items) {
+            this.seq = seq;
+            this.firstIndex = firstIndex;
+            this.items = items;
+        }
+    }
+    
+    /**
+     * Reporte del pipeline (se serializa a JSON con Gson).
+     */
+    public static class Report {
+        long read;
+        long written;
+        long distinctWords;
+        Map<String, Long> issueCounts = new HashMap<>();
+        List<Issue> issues = new ArrayList<>();
+        int workers;
+        long elapsedMillis;
+        double entriesPerSecond;
+        
+        public long getRead() { return read; }
+        public long getWritten() { return written; }
+        public Map<String, Long> getIssueCounts() { return issueCounts; }
+        public List<Issue> getIssues() { return issues; }
+    }
+    
+    /**
+     * Detalle de una entrada descartada. {@code index} es la posición en el
+     * array "words" (desde 0).
+     */
+    public static class Issue {
+        long index;
+        String word;
+        String category;
+        String reason;
+        String detail;
+        
+        Issue(WordNormalizer.Entry e) {
+            this.index = e.index;
+            this.word = e.word;
+            this.category = e.category;
+            this.reason = e.issue.name();
+            this.detail = e.detail;
+        }
+    }
+}
@@ -30,6 +30,7 @@ public class WordsData {
         private String word;
         private String category;
         private String hint;
+        private Double weight;   // opcional; null = 1
         
         public String getWord() {
             return word;
@@ -54,6 +55,28 @@ public class WordsData {
         public void setHint(String hint) {
             this.hint = hint;
         }
+        
+        public Double getWeight() {
+            return weight;
+        }
+        
+        public void setWeight(Double weight) {
+            this.weight = weight;
+        }
+        
+        /**
+         * Indica si el peso es válido: ausente, o un número finito mayor que 0.
+         */
+        public boolean hasValidWeight() {
+            return weight == null || (weight > 0 && !weight.isInfinite() && !weight.isNaN());
+        }
+        
+        /**
+         * Peso a usar al elegir palabras (1 si no se indicó).
+         */
+        public double weightOrDefault() {
+            return weight != null ? weight : 1.0;
+        }
     }
 }
 
@@ -0,0 +1,32 @@
+package com.poo.ahorcado.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Un turno completo del GameController: mostrar estado, leer entrada y procesarla.
+ */
+@Name("com.poo.ahorcado.ControllerTurn")
+@Label("Controller Turn")
+@Category({"Ahorcado", "Controller"})
+@Enabled(false)
+public class ControllerTurnEvent extends Event {
+    
+    @Label("Input")
+    public String input;
+    
+    @Label("Difficulty")
+    public String difficulty;
+    
+    @Label("Finished")
+    @Description("La partida terminó en este turno")
+    public boolean finished;
+    
+    @Label("Exit")
+    @Description("El jugador salió en este turno")
+    public boolean exit;
+}
@@ -0,0 +1,31 @@
+package com.poo.ahorcado.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Inicio de una partida (Game.startNew), incluida la selección de la palabra.
+ */
+@Name("com.poo.ahorcado.GameStart")
+@Label("Game Start")
+@Category({"Ahorcado", "Game"})
+@Enabled(false)
+public class GameStartEvent extends Event {
+    
+    @Label("Category")
+    public String category;
+    
+    @Label("Difficulty")
+    public String difficulty;
+    
+    @Label("Word Length")
+    public int wordLength;
+    
+    @Label("Requested Category")
+    @Description("Categoría pedida por el jugador, o null si fue aleatoria")
+    public String requestedCategory;
+}
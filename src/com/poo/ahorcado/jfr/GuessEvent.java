@@ -0,0 +1,40 @@
+package com.poo.ahorcado.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Una letra, un lote de letras o una palabra completa procesados por Game.
+ */
+@Name("com.poo.ahorcado.Guess")
+@Label("Guess")
+@Category({"Ahorcado", "Game"})
+@Enabled(false)
+public class GuessEvent extends Event {
+    
+    @Label("Letter")
+    public char letter;
+    
+    @Label("Batch Size")
+    @Description("1 para una letra, n para un lote de letras, 0 para la palabra completa")
+    public int batchSize;
+    
+    @Label("Outcome")
+    public String outcome;
+    
+    @Label("Category")
+    public String category;
+    
+    @Label("Difficulty")
+    public String difficulty;
+    
+    @Label("Word Length")
+    public int wordLength;
+    
+    @Label("Errors")
+    public int errors;
+}
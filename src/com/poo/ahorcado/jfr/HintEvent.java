@@ -0,0 +1,32 @@
+package com.poo.ahorcado.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Una solicitud de pista a Game.
+ */
+@Name("com.poo.ahorcado.Hint")
+@Label("Hint")
+@Category({"Ahorcado", "Game"})
+@Enabled(false)
+public class HintEvent extends Event {
+    
+    @Label("Kind")
+    public String kind;
+    
+    @Label("Granted")
+    public boolean granted;
+    
+    @Label("Category")
+    public String category;
+    
+    @Label("Difficulty")
+    public String difficulty;
+    
+    @Label("Word Length")
+    public int wordLength;
+}
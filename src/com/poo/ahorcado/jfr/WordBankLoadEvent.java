@@ -0,0 +1,35 @@
+package com.poo.ahorcado.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Fase de la carga del banco de palabras: PARSE (Gson), VALIDATE
+ * (conversión y validación de entradas) o INDEX (índice por categoría).
+ */
+@Name("com.poo.ahorcado.WordBankLoad")
+@Label("Word Bank Load")
+@Category({"Ahorcado", "Word Bank"})
+@Description("Fase de carga del banco de palabras")
+@Enabled(false)
+public class WordBankLoadEvent extends Event {
+    
+    public static final String PARSE = "PARSE";
+    public static final String VALIDATE = "VALIDATE";
+    public static final String INDEX = "INDEX";
+    
+    @Label("Phase")
+    public String phase;
+    
+    @Label("Entries")
+    @Description("Entradas procesadas en la fase")
+    public int entries;
+    
+    @Label("Skipped")
+    @Description("Entradas descartadas por inválidas")
+    public int skipped;
+}
@@ -0,0 +1,63 @@
+package com.poo.ahorcado.logic;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Tabla de alias (método de Walker, construcción de Vose) para elegir un
+ * índice con probabilidad proporcional a su peso en O(1).
+ * 
+ * Cada celda i guarda la probabilidad de quedarse con i y un "alias" al que
+ * ir en caso contrario: se elige una celda al azar y luego se lanza una
+ * moneda sesgada. Construirla es O(n).
+ */
+final class AliasTable {
+    
+    private final double[] probability;
+    private final int[] alias;
+    
+    /**
+     * @param weights pesos positivos (no hace falta que sumen 1)
+     */
+    AliasTable(double[] weights) {
+        int n = weights.length;
+        probability = new double[n];
+        alias = new int[n];
+        
+        double sum = 0;
+        for (double w : weights) sum += w;
+        
+        // Pesos escalados para que el promedio sea 1; pilas de "pequeños" y "grandes"
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) small[smallCount++] = l;
+            else large[largeCount++] = l;
+        }
+        // Lo que queda es 1 salvo por errores de redondeo
+        while (largeCount > 0) probability[large[--largeCount]] = 1.0;
+        while (smallCount > 0) probability[small[--smallCount]] = 1.0;
+    }
+    
+    int sample(RandomGenerator random) {
+        int i = random.nextInt(probability.length);
+        return random.nextDouble() < probability[i] ? i : alias[i];
+    }
+    
+    int size() {
+        return probability.length;
+    }
+}
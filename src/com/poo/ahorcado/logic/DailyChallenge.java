@@ -0,0 +1,171 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.metrics.GameMetrics;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "Palabra del día" por categoría y dificultad.
+ * 
+ * La palabra de una fecha se calcula en O(1) sin coordinación entre nodos:
+ * el día (en UTC por defecto) se ubica en un ciclo de tantos días como
+ * palabras tenga la categoría, y su posición dentro del ciclo pasa por una
+ * permutación con clave (red de Feistel con "cycle walking"). Como la
+ * permutación es biyectiva, ninguna palabra se repite dentro de un ciclo;
+ * la clave incluye semilla, categoría, dificultad y número de ciclo, así que
+ * cada ciclo tiene otro orden.
+ * 
+ * Todos los nodos obtienen la misma palabra si usan la misma semilla y el
+ * mismo banco (mismo orden de palabras). Los próximos días se precalculan en
+ * una caché pequeña que se renueva al cambiar la fecha.
+ */
+public class DailyChallenge implements WordSelector {
+    
+    private static final int ROUNDS = 4;
+    private static final int DEFAULT_CACHE_DAYS = 7;
+    
+    private final WordBank bank;
+    private final long seed;
+    private final Clock clock;
+    private final int cacheDays;
+    private final ConcurrentHashMap<Key, WordEntry> cache = new ConcurrentHashMap<>();
+    private volatile LocalDate cachedFrom;
+    
+    /**
+     * Calendario en UTC con 7 días precalculados.
+     */
+    public DailyChallenge(WordBank bank, long seed) {
+        this(bank, seed, Clock.systemUTC(), DEFAULT_CACHE_DAYS);
+    }
+    
+    public DailyChallenge(WordBank bank, long seed, Clock clock, int cacheDays) {
+        this.bank = bank;
+        this.seed = seed;
+        this.clock = clock;
+        this.cacheDays = cacheDays;
+    }
+    
+    /**
+     * Palabra de hoy. Al cambiar la fecha se precalculan los próximos días.
+     */
+    @Override
+    public WordEntry select(Optional<Category> category, Difficulty difficulty) {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(cachedFrom)) {
+            precompute(today, cacheDays);
+        }
+        GameMetrics.wordSelected(category.orElse(null));
+        return wordFor(today, category, difficulty);
+    }
+    
+    /**
+     * Palabra de cualquier fecha (usa la caché si está precalculada).
+     */
+    public WordEntry wordFor(LocalDate date, Optional<Category> category, Difficulty difficulty) {
+        WordEntry cached = cache.get(new Key(date, category.orElse(null), difficulty));
+        return cached != null ? cached : compute(date, category, difficulty);
+    }
+    
+    /**
+     * Calcula {@code days} días desde {@code from} para todas las categorías y
+     * dificultades, y descarta los días anteriores.
+     */
+    public synchronized void precompute(LocalDate from, int days) {
+        if (from.equals(cachedFrom)) return;
+        cache.keySet().removeIf(k -> k.date.isBefore(from));
+        Category[] categories = Category.values();
+        for (int d = 0; d < days; d++) {
+            LocalDate date = from.plusDays(d);
+            for (Difficulty difficulty : Difficulty.values()) {
+                cache.computeIfAbsent(new Key(date, null, difficulty),
+                        k -> compute(date, Optional.empty(), difficulty));
+                for (Category category : categories) {
+                    cache.computeIfAbsent(new Key(date, category, difficulty),
+                            k -> compute(date, Optional.of(category), difficulty));
+                }
+            }
+        }
+        cachedFrom = from;
+    }
+    
+    private WordEntry compute(LocalDate date, Optional<Category> category, Difficulty difficulty) {
+        List<WordEntry> entries = bank.entriesFor(category);
+        return entries.get(indexFor(date.toEpochDay(), entries.size(),
+                category.map(Category::getName).orElse("*"), difficulty));
+    }
+    
+    /**
+     * Posición de la palabra del día {@code epochDay} en una lista de {@code size}.
+     */
+    int indexFor(long epochDay, int size, String categoryName, Difficulty difficulty) {
+        long cycle = Math.floorDiv(epochDay, (long) size);
+        int position = (int) Math.floorMod(epochDay, (long) size);
+        long key = mix(mix(mix(mix(seed) ^ categoryName.hashCode()) ^ difficulty.name().hashCode()) ^ cycle);
+        return permute(position, size, key);
+    }
+    
+    /**
+     * Permutación con clave de [0, size): Feistel sobre el menor dominio de
+     * 2^(2k) elementos que cubre size, repitiendo mientras el resultado caiga
+     * fuera del rango (en promedio menos de 4 vueltas).
+     */
+    static int permute(int x, int size, long key) {
+        if (size <= 1) return 0;
+        int halfBits = Math.max(1, (32 - Integer.numberOfLeadingZeros(size - 1) + 1) / 2);
+        int mask = (1 << halfBits) - 1;
+        do {
+            int left = x >>> halfBits;
+            int right = x & mask;
+            for (int round = 0; round < ROUNDS; round++) {
+                int f = (int) mix(right ^ (key + round * 0x9E3779B97F4A7C15L)) & mask;
+                int next = left ^ f;
+                left = right;
+                right = next;
+            }
+            x = (left << halfBits) | right;
+        } while (x >= size);
+        return x;
+    }
+    
+    // Mezclador de 64 bits (el mismo finalizador que SplittableRandom)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Clave de la caché: fecha, categoría (null = cualquiera) y dificultad.
+     */
+    private static final class Key {
+        final LocalDate date;
+        final Category category;
+        final Difficulty difficulty;
+        
+        Key(LocalDate date, Category category, Difficulty difficulty) {
+            this.date = date;
+            this.category = category;
+            this.difficulty = difficulty;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return date.equals(k.date) && Objects.equals(category, k.category) && difficulty == k.difficulty;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, category, difficulty);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Índice de dificultad empírica de las palabras de un banco (ver DifficultyScorer).
+ * 
+ * Guarda por palabra (id = posición en el banco) un puntaje: errores promedio
+ * de la estrategia de referencia hasta adivinarla. Dentro de cada categoría
+ * (y en el banco completo) las palabras se ordenan por puntaje y se reparten
+ * en tercios: el más fácil para FACIL, el del medio para MEDIO y el más
+ * difícil para DIFICIL. Si hay pesos, cada tercio tiene su tabla de alias.
+ */
+public final class DifficultyIndex {
+    
+    private static final String ANY = "*";
+    private static final Difficulty[] LEVELS = Difficulty.values();
+    
+    private final float[] scores;
+    private final byte[] levels;                  // nivel de la palabra dentro de su categoría
+    private final Map<String, int[]> bands = new HashMap<>();
+    private final Map<String, AliasTable> aliases = new HashMap<>();
+    
+    DifficultyIndex(List<WordEntry> entries, float[] scores) {
+        this.scores = scores;
+        this.levels = new byte[scores.length];
+        
+        Map<Category, int[]> byCategory = new HashMap<>();
+        Map<Category, Integer> counts = new HashMap<>();
+        for (WordEntry e : entries) counts.merge(e.getCategory(), 1, Integer::sum);
+        Map<Category, Integer> fill = new HashMap<>();
+        for (int id = 0; id < entries.size(); id++) {
+            Category c = entries.get(id).getCategory();
+            int[] ids = byCategory.computeIfAbsent(c, k -> new int[counts.get(k)]);
+            ids[fill.merge(c, 1, Integer::sum) - 1] = id;
+        }
+        
+        int[] all = new int[entries.size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        split(ANY, all, entries, null);
+        for (Map.Entry<Category, int[]> e : byCategory.entrySet()) {
+            split(e.getKey().getName(), e.getValue(), entries, levels);
+        }
+    }
+    
+    /**
+     * Ordena los ids por puntaje y los reparte en tercios por dificultad.
+     */
+    private void split(String category, int[] ids, List<WordEntry> entries, byte[] levelsOut) {
+        Integer[] sorted = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) sorted[i] = ids[i];
+        Arrays.sort(sorted, (a, b) -> Float.compare(scores[a], scores[b]));
+        
+        for (int level = 0; level < LEVELS.length; level++) {
+            int from = (int) ((long) ids.length * level / LEVELS.length);
+            int to = (int) ((long) ids.length * (level + 1) / LEVELS.length);
+            int[] band = new int[to - from];
+            double[] weights = new double[band.length];
+            boolean uniform = true;
+            for (int i = 0; i < band.length; i++) {
+                band[i] = sorted[from + i];
+                weights[i] = entries.get(band[i]).getWeight();
+                uniform &= weights[i] == weights[0];
+                if (levelsOut != null) levelsOut[band[i]] = (byte) level;
+            }
+            String key = key(category, LEVELS[level]);
+            bands.put(key, band);
+            if (!uniform) aliases.put(key, new AliasTable(weights));
+        }
+    }
+    
+    private static String key(String category, Difficulty difficulty) {
+        return category + "/" + difficulty.name();
+    }
+    
+    /**
+     * Errores promedio de la estrategia de referencia para la palabra {@code id}.
+     */
+    public float getScore(int id) {
+        return scores[id];
+    }
+    
+    /**
+     * Dificultad que le corresponde a la palabra dentro de su categoría.
+     */
+    public Difficulty getDifficulty(int id) {
+        return LEVELS[levels[id]];
+    }
+    
+    public int size() {
+        return scores.length;
+    }
+    
+    /**
+     * Ids de las palabras de la categoría (o de todas) para la dificultad.
+     * Vacío si la categoría no tiene palabras.
+     */
+    int[] ids(Optional<Category> category, Difficulty difficulty) {
+        int[] band = bands.get(key(category.map(Category::getName).orElse(ANY), difficulty));
+        return band != null ? band : new int[0];
+    }
+    
+    /**
+     * Tabla de alias de la franja, en el orden de ids(), o null si es uniforme.
+     */
+    AliasTable alias(Optional<Category> category, Difficulty difficulty) {
+        return aliases.get(key(category.map(Category::getName).orElse(ANY), difficulty));
+    }
+    
+    /**
+     * Elige un id de la franja (con peso si corresponde), o -1 si está vacía.
+     */
+    int pick(Optional<Category> category, Difficulty difficulty, Random random) {
+        String key = key(category.map(Category::getName).orElse(ANY), difficulty);
+        int[] band = bands.get(key);
+        if (band == null || band.length == 0) return -1;
+        AliasTable alias = aliases.get(key);
+        return band[alias != null ? alias.sample(random) : random.nextInt(band.length)];
+    }
+}
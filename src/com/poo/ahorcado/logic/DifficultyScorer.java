@@ -0,0 +1,159 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.data.WordLoader;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calcula la dificultad empírica de cada palabra con simulación Monte Carlo.
+ * 
+ * Por palabra se juegan muchas partidas con una estrategia de referencia:
+ * en cada turno se elige una letra no intentada al azar, con probabilidad
+ * proporcional a su frecuencia en español, hasta revelar la palabra. El
+ * puntaje es el promedio de errores. Las partidas se simulan con máscaras de
+ * bits (sin Game, sin eventos ni métricas) y las palabras se reparten entre
+ * los hilos de un ForkJoinPool.
+ * 
+ * Uso offline (imprime CSV para quien edita words.json):
+ *   java com.poo.ahorcado.logic.DifficultyScorer [--games N] [words.json]
+ */
+public class DifficultyScorer {
+    
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZÑ";
+    
+    /** Frecuencia (%) de cada letra de ALPHABET en textos en español. */
+    private static final double[] FREQUENCY = {
+        12.53, 1.42, 4.68, 5.86, 13.68, 0.69, 1.01, 0.70, 6.25, 0.44, 0.01, 4.97, 3.15,
+        6.71, 8.68, 2.51, 0.88, 6.87, 7.98, 4.63, 3.93, 0.90, 0.02, 0.22, 0.90, 0.52, 0.31
+    };
+    
+    private static final double TOTAL_FREQUENCY = Arrays.stream(FREQUENCY).sum();
+    
+    /** Palabras por tarea antes de dejar de dividir. */
+    private static final int THRESHOLD = 32;
+    
+    private final int gamesPerWord;
+    private final long seed;
+    private final ForkJoinPool pool;
+    
+    public DifficultyScorer(int gamesPerWord, long seed) {
+        this(gamesPerWord, seed, ForkJoinPool.commonPool());
+    }
+    
+    public DifficultyScorer(int gamesPerWord, long seed, ForkJoinPool pool) {
+        if (gamesPerWord <= 0) {
+            throw new IllegalArgumentException("Partidas por palabra inválidas: " + gamesPerWord);
+        }
+        this.gamesPerWord = gamesPerWord;
+        this.seed = seed;
+        this.pool = pool;
+    }
+    
+    /**
+     * Simula todas las palabras en paralelo y arma el índice.
+     * El resultado no depende del número de hilos (semilla por palabra).
+     */
+    public DifficultyIndex score(List<WordEntry> entries) {
+        float[] scores = new float[entries.size()];
+        pool.invoke(new ScoreTask(entries, scores, 0, entries.size()));
+        return new DifficultyIndex(entries, scores);
+    }
+    
+    private final class ScoreTask extends RecursiveAction {
+        private final List<WordEntry> entries;
+        private final float[] scores;
+        private final int from;
+        private final int to;
+        
+        ScoreTask(List<WordEntry> entries, float[] scores, int from, int to) {
+            this.entries = entries;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int id = from; id < to; id++) {
+                    SplittableRandom random = new SplittableRandom(seed ^ (id * 0x9E3779B97F4A7C15L));
+                    scores[id] = simulate(entries.get(id).getWord(), gamesPerWord, random);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(entries, scores, from, mid), new ScoreTask(entries, scores, mid, to));
+        }
+    }
+    
+    /**
+     * Errores promedio de la estrategia de referencia para adivinar la palabra.
+     * Los caracteres fuera del alfabeto (espacios) se consideran visibles.
+     */
+    static float simulate(String word, int games, SplittableRandom random) {
+        int target = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int slot = ALPHABET.indexOf(word.charAt(i));
+            if (slot >= 0) target |= 1 << slot;
+        }
+        long misses = 0;
+        for (int g = 0; g < games; g++) {
+            int tried = 0;
+            double remaining = TOTAL_FREQUENCY;
+            while ((tried & target) != target) {
+                // letra no intentada, con probabilidad proporcional a su frecuencia
+                double r = random.nextDouble() * remaining;
+                int slot = -1;
+                for (int s = 0; s < FREQUENCY.length; s++) {
+                    if ((tried & (1 << s)) != 0) continue;
+                    slot = s;
+                    r -= FREQUENCY[s];
+                    if (r < 0) break;
+                }
+                tried |= 1 << slot;
+                remaining -= FREQUENCY[slot];
+                if ((target & (1 << slot)) == 0) misses++;
+            }
+        }
+        return (float) misses / games;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        int games = 2000;
+        Path file = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("--games".equals(args[i])) games = Integer.parseInt(args[++i]);
+            else file = Path.of(args[i]);
+        }
+        List<WordEntry> entries;
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                entries = new WordLoader().loadWords(reader);
+            }
+        } else {
+            entries = new WordLoader().loadWords();
+        }
+        
+        long start = System.nanoTime();
+        DifficultyIndex index = new DifficultyScorer(games, 42L).score(entries);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        
+        System.out.println("palabra,categoria,errores_promedio,dificultad");
+        for (int id = 0; id < entries.size(); id++) {
+            WordEntry e = entries.get(id);
+            System.out.printf("%s,%s,%.2f,%s%n", e.getWord(), e.getCategory().getName(),
+                    index.getScore(id), index.getDifficulty(id).name());
+        }
+        System.err.println(entries.size() + " palabras x " + games + " partidas en " + elapsed + " ms");
+    }
+}
@@ -1,16 +1,26 @@
 package com.poo.ahorcado.logic;
 
 import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.config.LetterHint;
+import com.poo.ahorcado.jfr.GameStartEvent;
+import com.poo.ahorcado.jfr.GuessEvent;
+import com.poo.ahorcado.jfr.HintEvent;
+import com.poo.ahorcado.logic.event.GameEvent;
+import com.poo.ahorcado.logic.event.GameEventPublisher;
+import com.poo.ahorcado.metrics.GameMetrics;
 import com.poo.ahorcado.model.Category;
 import com.poo.ahorcado.model.WordEntry;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 public class Game {
-    private final WordBank bank;
     private final GameConfig config;
+    private final GameEventPublisher events;   // puede ser null (sin eventos)
+    private final WordBank bank;
+    private final WordSelector randomSelector;
 
     // Estado de la partida
     private WordEntry current;
@@ -21,12 +31,31 @@ public class Game {
     private boolean usedCatHint, usedLetterHint, usedTextHint;
 
     public Game(WordBank bank, GameConfig config) {
-        this.bank = bank;
+        this(bank, config, null);
+    }
+
+    /**
+     * Crea una partida que publica sus cambios de estado en el publicador indicado.
+     */
+    public Game(WordBank bank, GameConfig config, GameEventPublisher events) {
         this.config = config;
+        this.events = events;
+        this.bank = bank;
+        this.randomSelector = WordSelector.random(bank);
     }
 
     public void startNew(Optional<Category> cat) {
-        current = cat.isPresent() ? bank.randomByCategory(cat.get()) : bank.randomAny();
+        startNew(cat, randomSelector);
+    }
+
+    /**
+     * Inicia una partida eligiendo la palabra con la estrategia indicada
+     * (por ejemplo, la palabra del día).
+     */
+    public void startNew(Optional<Category> cat, WordSelector selector) {
+        GameStartEvent event = new GameStartEvent();
+        event.begin();
+        current = selector.select(cat, config.getDifficulty());
         String w = current.getWord();
         masked = new char[w.length()];
         for (int i = 0; i < w.length(); i++) masked[i] = (w.charAt(i) == ' ') ? ' ' : '_';
@@ -34,31 +63,268 @@ public class Game {
         errors = 0;
         hintsUsed = 0;
         usedCatHint = usedLetterHint = usedTextHint = false;
+        GameMetrics.gameStarted(config.getDifficulty(), current.getCategory());
+        event.end();
+        if (event.shouldCommit()) {
+            event.category = current.getCategory().getName();
+            event.difficulty = config.getDifficulty().name();
+            event.wordLength = w.length();
+            event.requestedCategory = cat.map(Category::getName).orElse(null);
+            event.commit();
+        }
     }
 
     public boolean guess(char raw) {
+        return play(raw) == GuessResult.REVEALED;
+    }
+
+    /**
+     * Procesa una letra y retorna qué ocurrió, publicando el evento correspondiente.
+     */
+    public GuessResult play(char raw) {
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
         char c = Character.toUpperCase(raw);
-        if (tried.contains(c) || isFinished()) return false; // ya intentada o juego terminado
+        GuessResult result = applyGuess(c);
+        GameMetrics.guessDone(start);
+        commitGuess(event, c, result.name(), 1);
+        return result;
+    }
+
+    /**
+     * Procesa varias letras en orden, como si se llamara a play() con cada una,
+     * pero recorriendo la palabra una sola vez para todo el lote (y otra más
+     * para revelar, si hubo aciertos). Las letras repetidas dentro del lote
+     * cuentan como DUPLICATE y las que llegan después de terminar la partida,
+     * como FINISHED.
+     *
+     * @param letters letras a probar, en orden
+     * @param out buffer donde se dejan los resultados; se reutiliza entre llamadas
+     * @return el mismo buffer recibido
+     */
+    public GuessBatch playAll(CharSequence letters, GuessBatch out) {
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
+        out.reset(letters.length());
+        for (int i = 0; i < letters.length(); i++) {
+            out.add(Character.toUpperCase(letters.charAt(i)));
+        }
+        applyBatch(out);
+        GameMetrics.guessDone(start);
+        commitGuess(event, '\0', "BATCH", out.size());
+        return out;
+    }
+
+    /**
+     * Intenta adivinar la palabra completa (sin distinguir mayúsculas).
+     * Si acierta se revela todo y la partida se gana; si no, cuenta como un error.
+     */
+    public GuessResult guessWord(CharSequence word) {
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
+        GuessResult result = applyWordGuess(word);
+        GameMetrics.guessDone(start);
+        commitGuess(event, '\0', result.name(), 0);
+        return result;
+    }
+
+    private void commitGuess(GuessEvent event, char letter, String outcome, int batchSize) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.letter = letter;
+            event.outcome = outcome;
+            event.batchSize = batchSize;
+            event.category = current.getCategory().getName();
+            event.difficulty = config.getDifficulty().name();
+            event.wordLength = masked.length;
+            event.errors = errors;
+            event.commit();
+        }
+    }
+
+    private GuessResult applyGuess(char c) {
+        if (isFinished()) return GuessResult.FINISHED;
+        if (tried.contains(c)) {
+            publish(GameEvent.Type.DUPLICATE, c, 0, null);
+            return GuessResult.DUPLICATE;
+        }
         tried.add(c);
 
-        boolean hit = false;
+        int revealed = 0;
         String w = current.getWord();
         for (int i = 0; i < w.length(); i++) {
-            if (w.charAt(i) == c) { masked[i] = c; hit = true; }
+            if (w.charAt(i) == c) { masked[i] = c; revealed++; }
+        }
+        if (revealed == 0) errors++;
+
+        if (revealed > 0) publish(GameEvent.Type.LETTER_REVEALED, c, revealed, null);
+        else publish(GameEvent.Type.MISS, c, 0, null);
+        if (isWon()) finish(true);
+        else if (isLost()) finish(false);
+
+        return revealed > 0 ? GuessResult.REVEALED : GuessResult.MISS;
+    }
+
+    private void applyBatch(GuessBatch batch) {
+        int n = batch.size();
+        if (isFinished()) {
+            for (int i = 0; i < n; i++) batch.setResult(i, GuessResult.FINISHED);
+            return;
         }
-        if (!hit) errors++;
-        return hit;
+        // Ya intentadas o repetidas dentro del lote (queda pendiente solo la primera)
+        for (int i = 0; i < n; i++) {
+            char c = batch.letter(i);
+            if (tried.contains(c) || batch.indexOf(c, null) != i) {
+                batch.setResult(i, GuessResult.DUPLICATE);
+            }
+        }
+
+        // Una pasada: cuántas posiciones ocultas revela cada letra pendiente
+        String w = current.getWord();
+        int hidden = 0;
+        for (int j = 0; j < masked.length; j++) {
+            if (masked[j] != '_') continue;
+            hidden++;
+            int k = batch.indexOf(w.charAt(j), null);
+            if (k >= 0) batch.hit(k);
+        }
+
+        // Aplicar en orden: la partida puede terminar a mitad del lote
+        boolean over = false;
+        boolean anyRevealed = false;
+        for (int i = 0; i < n; i++) {
+            char c = batch.letter(i);
+            if (over) {
+                batch.setResult(i, GuessResult.FINISHED);
+                continue;
+            }
+            if (batch.result(i) == GuessResult.DUPLICATE) {
+                publish(GameEvent.Type.DUPLICATE, c, 0, null);
+                continue;
+            }
+            tried.add(c);
+            int hits = batch.hits(i);
+            if (hits > 0) {
+                batch.setResult(i, GuessResult.REVEALED);
+                hidden -= hits;
+                anyRevealed = true;
+                publish(GameEvent.Type.LETTER_REVEALED, c, hits, null);
+            } else {
+                batch.setResult(i, GuessResult.MISS);
+                errors++;
+                publish(GameEvent.Type.MISS, c, 0, null);
+            }
+            over = hidden == 0 || isLost();
+        }
+
+        if (anyRevealed) {
+            for (int j = 0; j < masked.length; j++) {
+                if (masked[j] == '_' && batch.indexOf(w.charAt(j), GuessResult.REVEALED) >= 0) {
+                    masked[j] = w.charAt(j);
+                }
+            }
+        }
+        if (isWon()) finish(true);
+        else if (isLost()) finish(false);
+    }
+
+    private GuessResult applyWordGuess(CharSequence guess) {
+        if (isFinished()) return GuessResult.FINISHED;
+        if (matchesWord(guess)) {
+            String w = current.getWord();
+            // un LETTER_REVEALED por letra que seguía oculta, como guess y playAll
+            for (int i = 0; i < masked.length; i++) {
+                char c = w.charAt(i);
+                if (masked[i] != '_') continue;
+                int revealed = 0;
+                for (int j = i; j < masked.length; j++) {
+                    if (masked[j] == '_' && w.charAt(j) == c) { masked[j] = c; revealed++; }
+                }
+                publish(GameEvent.Type.LETTER_REVEALED, c, revealed, null);
+            }
+            finish(true);
+            return GuessResult.REVEALED;
+        }
+        errors++;
+        publish(GameEvent.Type.MISS, '\0', 0, null);
+        if (isLost()) finish(false);
+        return GuessResult.MISS;
+    }
+
+    // compara sin crear Strings (ni toUpperCase del intento completo)
+    private boolean matchesWord(CharSequence guess) {
+        String w = current.getWord();
+        if (guess.length() != w.length()) return false;
+        for (int i = 0; i < w.length(); i++) {
+            if (Character.toUpperCase(guess.charAt(i)) != w.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void finish(boolean won) {
+        publish(won ? GameEvent.Type.WON : GameEvent.Type.LOST, '\0', 0, null);
+        GameMetrics.gameFinished(config.getDifficulty(), current.getCategory(), won);
     }
 
     // ---- Pistas ----
     public String hintCategory() {
+        HintEvent event = new HintEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
+        int before = hintsUsed;
+        String result = categoryHint();
+        GameMetrics.hintDone(start);
+        commitHint(event, "CATEGORY", hintsUsed > before);
+        return result;
+    }
+
+    public String hintRandomLetter() {
+        HintEvent event = new HintEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
+        int before = hintsUsed;
+        String result = randomLetterHint();
+        GameMetrics.hintDone(start);
+        commitHint(event, "LETTER", hintsUsed > before);
+        return result;
+    }
+
+    public String hintText() {
+        HintEvent event = new HintEvent();
+        event.begin();
+        long start = GameMetrics.startTimer();
+        int before = hintsUsed;
+        String result = textHint();
+        GameMetrics.hintDone(start);
+        commitHint(event, "TEXT", hintsUsed > before);
+        return result;
+    }
+
+    private void commitHint(HintEvent event, String kind, boolean granted) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.granted = granted;
+            event.category = current.getCategory().getName();
+            event.difficulty = config.getDifficulty().name();
+            event.wordLength = masked.length;
+            event.commit();
+        }
+    }
+
+    private String categoryHint() {
         if (usedCatHint || !canUseMoreHints()) return "No disponible.";
         usedCatHint = true; hintsUsed++;
+        publish(GameEvent.Type.HINT_USED, '\0', 0, GameEvent.HintKind.CATEGORY);
         return "Categoría: " + current.getCategory();
     }
 
-    public String hintRandomLetter() {
+    private String randomLetterHint() {
         if (usedLetterHint || !canUseMoreHints()) return "No disponible.";
+        if (config.getLetterHint() == LetterHint.ENTROPY) return suggestedLetterHint();
         // buscar índice no revelado
         int idx = -1;
         for (int i = 0; i < masked.length; i++) {
@@ -66,29 +332,66 @@ public class Game {
         }
         if (idx == -1) return "Todas las letras están reveladas.";
         char c = current.getWord().charAt(idx);
-        guess(c); // reutiliza lógica para revelar
         usedLetterHint = true; hintsUsed++;
+        publish(GameEvent.Type.HINT_USED, c, 0, GameEvent.HintKind.LETTER);
+        guess(c); // reutiliza lógica para revelar
         return "Letra revelada: " + c;
     }
 
-    public String hintText() {
+    // sugiere sin jugarla la letra que más información da (ver LetterAdvisor)
+    private String suggestedLetterHint() {
+        char c = bank.getLetterAdvisor().recommend(current.getCategory(), getMaskedWord(), tried);
+        if (c == '\0') return "No quedan letras por sugerir.";
+        usedLetterHint = true; hintsUsed++;
+        publish(GameEvent.Type.HINT_USED, c, 0, GameEvent.HintKind.LETTER);
+        return "Letra sugerida: " + c;
+    }
+
+    private String textHint() {
         if (usedTextHint || !canUseMoreHints()) return "No disponible.";
         usedTextHint = true; hintsUsed++;
+        publish(GameEvent.Type.HINT_USED, '\0', 0, GameEvent.HintKind.TEXT);
         return "Pista: " + current.getTextHint();
     }
 
+    /**
+     * Publica un evento solo si hay suscriptores, para no asignar objetos en vano.
+     */
+    private void publish(GameEvent.Type type, char letter, int revealed, GameEvent.HintKind hint) {
+        if (events == null || !events.hasSubscribers()) return;
+        switch (type) {
+            case LETTER_REVEALED: events.publish(GameEvent.letterRevealed(current, letter, revealed, errors)); break;
+            case MISS:            events.publish(GameEvent.miss(current, letter, errors)); break;
+            case DUPLICATE:       events.publish(GameEvent.duplicate(current, letter, errors)); break;
+            case HINT_USED:       events.publish(GameEvent.hintUsed(current, hint, letter, errors)); break;
+            case WON:             events.publish(GameEvent.won(current, errors)); break;
+            case LOST:            events.publish(GameEvent.lost(current, errors)); break;
+        }
+    }
+
     private boolean canUseMoreHints() { 
         return hintsUsed < config.getMaxHints(); 
     }
 
+    // compara sin crear un String nuevo (se llama en cada turno vía isFinished)
+    private boolean allRevealed() {
+        String w = current.getWord();
+        for (int i = 0; i < masked.length; i++) {
+            if (masked[i] != w.charAt(i)) return false;
+        }
+        return true;
+    }
+
     // ---- Consultas ----
     public String getMaskedWord() { return new String(masked); }
     public int getAttemptsLeft() { return config.getMaxAttempts() - errors; }
     public int getErrors() { return errors; }
-    public boolean isWon() { return current != null && current.getWord().equals(getMaskedWord()); }
+    public boolean isWon() { return current != null && allRevealed(); }
     public boolean isLost() { return errors >= config.getMaxAttempts(); }
     public boolean isFinished() { return isWon() || isLost(); }
     public WordEntry getCurrent() { return current; }
     public GameConfig getConfig() { return config; }
     public int getHintsUsed() { return hintsUsed; }
+    /** Letras ya intentadas (acertadas o no), en mayúsculas; solo lectura. */
+    public Set<Character> getTriedLetters() { return Collections.unmodifiableSet(tried); }
 }
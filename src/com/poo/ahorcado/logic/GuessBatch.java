@@ -0,0 +1,81 @@
+package com.poo.ahorcado.logic;
+
+/**
+ * Resultado de un lote de letras procesado por {@link Game#playAll}: la letra
+ * (ya en mayúscula) y el resultado de cada una, en el orden recibido.
+ *
+ * Está pensado para reutilizarse entre turnos (bots, clientes de red): los
+ * arreglos solo crecen cuando llega un lote más largo que los anteriores.
+ * No es thread-safe.
+ */
+public final class GuessBatch {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private char[] letters = new char[INITIAL_CAPACITY];
+    private GuessResult[] results = new GuessResult[INITIAL_CAPACITY];
+    private int[] hits = new int[INITIAL_CAPACITY];   // posiciones de la palabra por letra (uso de Game)
+    private int size;
+
+    /** Cantidad de letras del último lote. */
+    public int size() { return size; }
+
+    public char letterAt(int i) {
+        checkIndex(i);
+        return letters[i];
+    }
+
+    public GuessResult resultAt(int i) {
+        checkIndex(i);
+        return results[i];
+    }
+
+    /** Cuántas letras del lote terminaron con el resultado indicado. */
+    public int count(GuessResult result) {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (results[i] == result) n++;
+        }
+        return n;
+    }
+
+    // ---- Uso interno de Game ----
+
+    void reset(int capacity) {
+        if (letters.length < capacity) {
+            int n = Math.max(capacity, letters.length * 2);
+            letters = new char[n];
+            results = new GuessResult[n];
+            hits = new int[n];
+        }
+        for (int i = 0; i < size; i++) results[i] = null;
+        size = 0;
+    }
+
+    void add(char letter) {
+        letters[size] = letter;
+        results[size] = null;
+        hits[size] = 0;
+        size++;
+    }
+
+    /** Primer índice de la letra con ese resultado (null = pendiente), o -1. */
+    int indexOf(char letter, GuessResult result) {
+        for (int i = 0; i < size; i++) {
+            if (letters[i] == letter && results[i] == result) return i;
+        }
+        return -1;
+    }
+
+    char letter(int i) { return letters[i]; }
+    GuessResult result(int i) { return results[i]; }
+    void setResult(int i, GuessResult result) { results[i] = result; }
+    int hits(int i) { return hits[i]; }
+    void hit(int i) { hits[i]++; }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Índice " + i + " fuera del lote de " + size + " letra(s)");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.poo.ahorcado.logic;
+
+/**
+ * Resultado de intentar adivinar una letra.
+ */
+public enum GuessResult {
+    /** La letra está en la palabra y se reveló. */
+    REVEALED,
+    /** La letra no está en la palabra; cuenta como error. */
+    MISS,
+    /** La letra ya se había intentado; no cuenta como error. */
+    DUPLICATE,
+    /** La partida ya había terminado; no se procesó la letra. */
+    FINISHED
+}
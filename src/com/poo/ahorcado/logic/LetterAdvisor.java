@@ -0,0 +1,174 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * Recomienda la letra que más información da sobre la palabra oculta
+ * (pista de letra en modo ENTROPY).
+ *
+ * Las candidatas son las palabras de la categoría que encajan en el estado
+ * de la partida (PatternIndex). Si son pocas (hasta EXACT_LIMIT), se agrupan
+ * por las posiciones en que cada letra aparecería y se elige la letra cuya
+ * partición tiene más entropía. Si son muchas, se usa la tabla de
+ * frecuencias precalculada para esa categoría y longitud: la letra cuya
+ * presencia está más cerca de dividir las palabras por la mitad.
+ * En ambos casos, a igual entropía gana la letra más probable de acertar.
+ *
+ * Las tablas se calculan una vez al crear el asesor. Thread-safe.
+ */
+public final class LetterAdvisor {
+
+    /** Máximo de candidatas para calcular la entropía exacta. */
+    static final int EXACT_LIMIT = 256;
+
+    private static final int LETTERS = PatternIndex.ALPHABET.length();
+    private static final int ALL_LETTERS = (1 << LETTERS) - 1;
+
+    private final WordBank bank;
+    // [longitud][letra] = palabras con esa letra; [longitud][LETTERS] = palabras de esa longitud.
+    // La fila 0 acumula todas las longitudes.
+    private final Map<Category, int[][]> tables = new HashMap<>();
+    private final int[][] allCategories;
+
+    LetterAdvisor(WordBank bank, List<WordEntry> entries) {
+        this.bank = bank;
+        int maxLength = 0;
+        for (WordEntry e : entries) maxLength = Math.max(maxLength, e.getWord().length());
+        this.allCategories = new int[maxLength + 1][LETTERS + 1];
+        for (WordEntry e : entries) {
+            int[][] table = tables.computeIfAbsent(e.getCategory(), k -> new int[allCategories.length][LETTERS + 1]);
+            String word = e.getWord();
+            int mask = PatternIndex.letterMask(word);
+            count(table, word.length(), mask);
+            count(allCategories, word.length(), mask);
+        }
+    }
+
+    private static void count(int[][] table, int length, int mask) {
+        for (int m = mask; m != 0; m &= m - 1) {
+            int s = Integer.numberOfTrailingZeros(m);
+            table[0][s]++;
+            table[length][s]++;
+        }
+        table[0][LETTERS]++;
+        table[length][LETTERS]++;
+    }
+
+    /**
+     * Letra recomendada para el estado de la partida, o '\0' si no queda
+     * ninguna letra sin probar.
+     *
+     * @param category categoría de la palabra
+     * @param pattern palabra enmascarada, con {@link PatternIndex#HIDDEN} en las letras ocultas
+     * @param tried letras ya intentadas (acertadas o no)
+     */
+    public char recommend(Category category, CharSequence pattern, Set<Character> tried) {
+        int triedMask = 0;
+        for (char c : tried) {
+            int slot = PatternIndex.slot(c);
+            if (slot < LETTERS) triedMask |= 1 << slot;
+        }
+        int revealedMask = PatternIndex.letterMask(pattern);   // '_' no es del alfabeto
+        int options = ALL_LETTERS & ~triedMask & ~revealedMask;
+        if (options == 0) return '\0';
+
+        PatternIndex index = bank.getPatternIndex(Optional.of(category));
+        int missedMask = triedMask & ~revealedMask;
+        int candidates = index.count(pattern, missedMask);
+        int slot = candidates > 0 && candidates <= EXACT_LIMIT
+                ? exact(index.matches(pattern, missedMask), index, candidates, options, table(category, pattern.length()))
+                : fromTable(table(category, pattern.length()), options);
+        return PatternIndex.ALPHABET.charAt(slot);
+    }
+
+    /**
+     * Tabla más específica con datos: categoría y longitud, todas las categorías
+     * con esa longitud, o todas las longitudes.
+     */
+    private int[] table(Category category, int length) {
+        int[][] byCategory = tables.get(category);
+        if (byCategory != null && length < byCategory.length && byCategory[length][LETTERS] > 0) {
+            return byCategory[length];
+        }
+        if (length < allCategories.length && allCategories[length][LETTERS] > 0) {
+            return allCategories[length];
+        }
+        return allCategories[0];
+    }
+
+    /**
+     * Letra cuya presencia divide mejor las palabras de la tabla (entropía binaria).
+     */
+    private static int fromTable(int[] table, int options) {
+        int total = Math.max(1, table[LETTERS]);
+        int best = -1;
+        double bestEntropy = -1;
+        for (int m = options; m != 0; m &= m - 1) {
+            int s = Integer.numberOfTrailingZeros(m);
+            double p = (double) table[s] / total;
+            double h = entropy(p) + entropy(1 - p);
+            if (h > bestEntropy + 1e-12 || (h > bestEntropy - 1e-12 && table[s] > table[best])) {
+                best = s;
+                bestEntropy = h;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Entropía exacta: para cada letra, las candidatas se agrupan según la
+     * máscara de posiciones donde la letra aparecería (0 = fallo).
+     */
+    private static int exact(PrimitiveIterator.OfInt ids, PatternIndex index, int n, int options, int[] table) {
+        // posiciones de cada letra en cada candidata: masks[letra * n + candidata]
+        long[] masks = new long[LETTERS * n];
+        for (int i = 0; ids.hasNext(); i++) {
+            String word = index.get(ids.nextInt()).getWord();
+            for (int p = 0; p < word.length(); p++) {
+                int s = PatternIndex.slot(word.charAt(p));
+                if (s < LETTERS && (options & (1 << s)) != 0) masks[s * n + i] |= 1L << p;
+            }
+        }
+
+        int best = -1;
+        double bestEntropy = -1;
+        int bestHits = -1;
+        for (int m = options; m != 0; m &= m - 1) {
+            int s = Integer.numberOfTrailingZeros(m);
+            int from = s * n;
+            int to = from + n;
+            Arrays.sort(masks, from, to);
+            double h = 0;
+            int hits = 0;
+            for (int i = from; i < to; ) {
+                int j = i + 1;
+                while (j < to && masks[j] == masks[i]) j++;
+                h += entropy((double) (j - i) / n);
+                if (masks[i] != 0) hits += j - i;
+                i = j;
+            }
+            boolean better = h > bestEntropy + 1e-12
+                    || (h > bestEntropy - 1e-12
+                        && (hits > bestHits || (hits == bestHits && table[s] > table[best])));
+            if (better) {
+                best = s;
+                bestEntropy = h;
+                bestHits = hits;
+            }
+        }
+        return best;
+    }
+
+    private static double entropy(double p) {
+        return p <= 0 ? 0 : -p * Math.log(p);
+    }
+}
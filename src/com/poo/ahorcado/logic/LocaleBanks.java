@@ -0,0 +1,198 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.config.CategoryManager;
+import com.poo.ahorcado.data.WordLoader;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bancos de palabras y nombres de categorías por idioma, cargados al primer uso.
+ * 
+ * Cada idioma vive en /resources/&lt;idioma&gt;/ (words.bin, que el build
+ * genera y valida desde words.json, o words.json si no está, y un
+ * categories.properties con los nombres de visualización); el idioma por
+ * defecto usa /resources directamente. Los idiomas sin recursos usan el
+ * banco por defecto.
+ * 
+ * La caché está acotada por el total de palabras cargadas: al superarlo se
+ * descartan los idiomas usados hace más tiempo (siempre queda al menos el
+ * último). Si varios hilos piden a la vez un idioma que no está cargado,
+ * solo uno lo carga y los demás esperan ese resultado.
+ */
+public class LocaleBanks {
+    
+    /** Palabras cargadas a la vez por defecto (unos cuantos bancos grandes). */
+    public static final long DEFAULT_MAX_WORDS = 200_000;
+    
+    private static final String RESOURCE_DIR = "/resources";
+    private static final String DEFAULT_KEY = "";
+    
+    private final String defaultLanguage;
+    private final long maxWords;
+    private final LinkedHashMap<String, LocaleBank> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<LocaleBank>> loading = new ConcurrentHashMap<>();
+    private long loadedWords;   // protegido por cache
+    
+    /**
+     * Caché acotada a {@link #DEFAULT_MAX_WORDS} palabras.
+     */
+    public LocaleBanks(String defaultLanguage) {
+        this(defaultLanguage, DEFAULT_MAX_WORDS);
+    }
+    
+    /**
+     * @param defaultLanguage idioma de los recursos de /resources (por ejemplo "es")
+     * @param maxWords        total de palabras que pueden estar cargadas a la vez
+     */
+    public LocaleBanks(String defaultLanguage, long maxWords) {
+        this.defaultLanguage = defaultLanguage;
+        this.maxWords = maxWords;
+    }
+    
+    /**
+     * Banco del idioma, cargándolo si hace falta.
+     */
+    public WordBank bank(Locale locale) {
+        return get(locale).bank;
+    }
+    
+    /**
+     * Banco del idioma que se carga en segundo plano, como WordBank.loadAsync:
+     * la UI puede mostrar el primer prompt mientras tanto y la primera
+     * selección de palabra espera la carga. Comparte las palabras con el
+     * banco de la caché.
+     */
+    public WordBank bankAsync(Locale locale) {
+        return WordBank.deferred(CompletableFuture.supplyAsync(() -> bank(locale)));
+    }
+    
+    /**
+     * Nombre de la categoría en el idioma (o el nombre por defecto si no está traducido).
+     */
+    public String displayName(Category category, Locale locale) {
+        String name = get(locale).displayNames.getProperty("category." + category.getName() + ".display");
+        return name != null ? name : CategoryManager.getInstance().getDisplayName(category.getName());
+    }
+    
+    /**
+     * Idiomas cargados, del menos al más recientemente usado ("" = por defecto).
+     */
+    public List<String> getLoadedLanguages() {
+        synchronized (cache) {
+            return new ArrayList<>(cache.keySet());
+        }
+    }
+    
+    private LocaleBank get(Locale locale) {
+        String key = resolve(locale);
+        synchronized (cache) {
+            LocaleBank cached = cache.get(key);
+            if (cached != null) return cached;
+        }
+        
+        CompletableFuture<LocaleBank> mine = new CompletableFuture<>();
+        CompletableFuture<LocaleBank> other = loading.putIfAbsent(key, mine);
+        if (other != null) {
+            return join(other);
+        }
+        try {
+            LocaleBank bank;
+            synchronized (cache) {
+                bank = cache.get(key);   // otro hilo pudo terminar justo antes
+            }
+            if (bank == null) {
+                bank = load(key);
+                put(key, bank);
+            }
+            mine.complete(bank);
+            return bank;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+    
+    private void put(String key, LocaleBank bank) {
+        synchronized (cache) {
+            cache.put(key, bank);
+            loadedWords += bank.words;
+            Iterator<Map.Entry<String, LocaleBank>> it = cache.entrySet().iterator();
+            while (loadedWords > maxWords && cache.size() > 1) {
+                LocaleBank evicted = it.next().getValue();
+                it.remove();
+                loadedWords -= evicted.words;
+            }
+        }
+    }
+    
+    /**
+     * Directorio del idioma, o el por defecto si no tiene recursos propios.
+     */
+    private String resolve(Locale locale) {
+        String language = locale.getLanguage();
+        if (language.isEmpty() || language.equals(defaultLanguage)) return DEFAULT_KEY;
+        String dir = RESOURCE_DIR + "/" + language;
+        boolean exists = getClass().getResource(dir + "/words.bin") != null
+                || getClass().getResource(dir + "/words.json") != null;
+        return exists ? language : DEFAULT_KEY;
+    }
+    
+    private LocaleBank load(String key) {
+        String dir = key.isEmpty() ? RESOURCE_DIR : RESOURCE_DIR + "/" + key;
+        List<WordEntry> words = new WordLoader(dir).loadWords();
+        Properties names = new Properties();
+        if (!key.isEmpty()) {
+            try (InputStream in = getClass().getResourceAsStream(dir + "/categories.properties")) {
+                if (in != null) {
+                    names.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                System.err.println("Error al cargar nombres de categorías de " + dir + ": " + e.getMessage());
+            }
+        }
+        return new LocaleBank(new WordBank(words), names, words.size());
+    }
+    
+    private static LocaleBank join(CompletableFuture<LocaleBank> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Banco y nombres de categorías de un idioma.
+     */
+    private static final class LocaleBank {
+        final WordBank bank;
+        final Properties displayNames;
+        final int words;
+        
+        LocaleBank(WordBank bank, Properties displayNames, int words) {
+            this.bank = bank;
+            this.displayNames = displayNames;
+            this.words = words;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Índice para consultas por patrón sobre un banco de palabras, por ejemplo
+ * "todas las palabras que encajan en _A__O sin las letras E ni S".
+ *
+ * Las palabras se agrupan por longitud. Por cada longitud, posición y letra
+ * hay un bitset con las palabras que tienen esa letra en esa posición, y por
+ * palabra una máscara con las letras que contiene. Una consulta intersecta
+ * los bitsets de las posiciones conocidas, descarta con los mismos bitsets
+ * las palabras con letras ya reveladas en posiciones ocultas y, al final,
+ * filtra las letras excluidas con la máscara de cada candidata. Se evalúa
+ * por bloques de 64 palabras, sin armar listas ni bitsets de resultado.
+ *
+ * El patrón sigue las reglas del ahorcado: '_' es una letra oculta y, como
+ * al acertar una letra se revelan todas sus apariciones, una posición oculta
+ * nunca es una letra que ya aparece en el patrón. Los caracteres fuera del
+ * alfabeto (espacios) siempre están visibles. Inmutable y thread-safe.
+ */
+public final class PatternIndex {
+
+    /** Letra oculta en un patrón. */
+    public static final char HIDDEN = '_';
+
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZÑ";
+    private static final int OTHER = ALPHABET.length();       // espacios y demás caracteres
+    private static final int SLOTS = OTHER + 1;
+
+    private final List<WordEntry> entries;
+    private final Bucket[] byLength;
+
+    /**
+     * Palabras de una misma longitud. El índice local i corresponde a la palabra ids[i].
+     */
+    private static final class Bucket {
+        final int[] ids;
+        final int[] masks;            // letras de cada palabra (bit = posición en ALPHABET)
+        final long[][] positions;     // [posición * SLOTS + letra] -> bitset, null si vacío
+
+        Bucket(int length, int[] ids) {
+            this.ids = ids;
+            this.masks = new int[ids.length];
+            this.positions = new long[length * SLOTS][];
+        }
+
+        int blocks() {
+            return (ids.length + 63) >>> 6;
+        }
+
+        long[] bits(int position, int slot) {
+            return positions[position * SLOTS + slot];
+        }
+    }
+
+    /**
+     * Indexa las palabras de la lista; los ids de las consultas son posiciones en ella.
+     */
+    public PatternIndex(List<WordEntry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+
+        int maxLength = 0;
+        int[] counts = new int[1];
+        for (WordEntry e : entries) {
+            int len = e.getWord().length();
+            if (len >= counts.length) {
+                int[] grown = new int[Math.max(len + 1, counts.length * 2)];
+                System.arraycopy(counts, 0, grown, 0, counts.length);
+                counts = grown;
+            }
+            counts[len]++;
+            maxLength = Math.max(maxLength, len);
+        }
+
+        this.byLength = new Bucket[maxLength + 1];
+        for (int len = 1; len <= maxLength; len++) {
+            if (counts[len] > 0) byLength[len] = new Bucket(len, new int[counts[len]]);
+        }
+        int[] fill = new int[maxLength + 1];
+        for (int id = 0; id < entries.size(); id++) {
+            String word = entries.get(id).getWord();
+            Bucket bucket = byLength[word.length()];
+            if (bucket == null) continue;   // palabra vacía
+            int local = fill[word.length()]++;
+            bucket.ids[local] = id;
+            int mask = 0;
+            for (int p = 0; p < word.length(); p++) {
+                int slot = slot(word.charAt(p));
+                if (slot != OTHER) mask |= 1 << slot;
+                long[] bits = bucket.positions[p * SLOTS + slot];
+                if (bits == null) {
+                    bits = bucket.positions[p * SLOTS + slot] = new long[bucket.blocks()];
+                }
+                bits[local >>> 6] |= 1L << local;
+            }
+            bucket.masks[local] = mask;
+        }
+    }
+
+    /**
+     * Posición de la letra en el alfabeto, o OTHER si no es una letra del alfabeto.
+     */
+    static int slot(char c) {
+        int i = ALPHABET.indexOf(Character.toUpperCase(c));
+        return i >= 0 ? i : OTHER;
+    }
+
+    /**
+     * Máscara de bits con las letras del alfabeto que aparecen en el texto.
+     */
+    static int letterMask(CharSequence letters) {
+        int mask = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            int slot = slot(letters.charAt(i));
+            if (slot != OTHER) mask |= 1 << slot;
+        }
+        return mask;
+    }
+
+    /**
+     * Cantidad de palabras que encajan en el patrón y no contienen ninguna de las letras excluidas.
+     *
+     * @param pattern palabra con {@link #HIDDEN} en las letras ocultas, p. ej. "_A__O"
+     * @param excluded letras que la palabra no puede tener (p. ej. las falladas)
+     */
+    public int count(CharSequence pattern, CharSequence excluded) {
+        return count(pattern, letterMask(excluded));
+    }
+
+    /** Igual que {@link #count(CharSequence, CharSequence)} con las excluidas como máscara. */
+    int count(CharSequence pattern, int excludedMask) {
+        Plan plan = plan(pattern, excludedMask);
+        int total = 0;
+        for (int block = 0, n = plan.blocks(); block < n; block++) {
+            total += Long.bitCount(plan.block(block));
+        }
+        return total;
+    }
+
+    /**
+     * Ids (posición en la lista indexada) de las palabras que encajan, en orden
+     * creciente dentro de cada longitud. Se calculan a medida que se recorren.
+     */
+    public PrimitiveIterator.OfInt matches(CharSequence pattern, CharSequence excluded) {
+        return matches(pattern, letterMask(excluded));
+    }
+
+    PrimitiveIterator.OfInt matches(CharSequence pattern, int excludedMask) {
+        return new Matches(plan(pattern, excludedMask));
+    }
+
+    /**
+     * Igual que {@link #matches} pero devolviendo las entradas.
+     */
+    public Iterable<WordEntry> words(CharSequence pattern, CharSequence excluded) {
+        return () -> new Iterator<WordEntry>() {
+            private final PrimitiveIterator.OfInt ids = matches(pattern, excluded);
+
+            @Override
+            public boolean hasNext() { return ids.hasNext(); }
+
+            @Override
+            public WordEntry next() { return entries.get(ids.nextInt()); }
+        };
+    }
+
+    /** Entrada con el id indicado. */
+    public WordEntry get(int id) {
+        return entries.get(id);
+    }
+
+    /** Cantidad de palabras indexadas. */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Traduce el patrón a listas de bitsets: los que la palabra debe tener
+     * (letras conocidas) y los que no (letras reveladas en posiciones ocultas).
+     */
+    private Plan plan(CharSequence pattern, int excludedMask) {
+        int len = pattern.length();
+        Bucket bucket = len < byLength.length ? byLength[len] : null;
+        if (bucket == null) return Plan.EMPTY;
+
+        int revealed = 0;
+        for (int p = 0; p < len; p++) {
+            char c = pattern.charAt(p);
+            if (c != HIDDEN) {
+                int slot = slot(c);
+                if (slot != OTHER) revealed |= 1 << slot;
+            }
+        }
+        if ((revealed & excludedMask) != 0) return Plan.EMPTY;   // contradictorio
+
+        List<long[]> include = new ArrayList<>(len);
+        List<long[]> exclude = new ArrayList<>();
+        boolean verify = false;
+        for (int p = 0; p < len; p++) {
+            char c = pattern.charAt(p);
+            if (c == HIDDEN) {
+                // oculta: ni un caracter siempre visible ni una letra ya revelada
+                addIfPresent(exclude, bucket.bits(p, OTHER));
+                for (int r = revealed; r != 0; r &= r - 1) {
+                    addIfPresent(exclude, bucket.bits(p, Integer.numberOfTrailingZeros(r)));
+                }
+            } else {
+                int slot = slot(c);
+                long[] bits = bucket.bits(p, slot);
+                if (bits == null) return Plan.EMPTY;
+                include.add(bits);
+                verify |= slot == OTHER;
+            }
+        }
+        return new Plan(bucket, include.toArray(new long[0][]), exclude.toArray(new long[0][]),
+                        excludedMask, verify ? pattern.toString().toUpperCase() : null, entries);
+    }
+
+    private static void addIfPresent(List<long[]> list, long[] bits) {
+        if (bits != null) list.add(bits);
+    }
+
+    /**
+     * Consulta compilada; calcula las coincidencias de a un bloque de 64 palabras.
+     */
+    private static final class Plan {
+        static final Plan EMPTY = new Plan(null, null, null, 0, null, null);
+
+        private final Bucket bucket;
+        private final long[][] include;
+        private final long[][] exclude;
+        private final int excludedMask;
+        private final String verifyPattern;     // solo si hay caracteres fuera del alfabeto
+        private final List<WordEntry> entries;
+
+        Plan(Bucket bucket, long[][] include, long[][] exclude, int excludedMask,
+             String verifyPattern, List<WordEntry> entries) {
+            this.bucket = bucket;
+            this.include = include;
+            this.exclude = exclude;
+            this.excludedMask = excludedMask;
+            this.verifyPattern = verifyPattern;
+            this.entries = entries;
+        }
+
+        int blocks() {
+            return bucket == null ? 0 : bucket.blocks();
+        }
+
+        /** Bits de las palabras del bloque que encajan (bit i = palabra local block*64+i). */
+        long block(int block) {
+            long acc = -1L;
+            int remaining = bucket.ids.length - (block << 6);
+            if (remaining < 64) acc = (1L << remaining) - 1;
+            for (long[] bits : include) {
+                acc &= bits[block];
+                if (acc == 0) return 0;
+            }
+            for (long[] bits : exclude) {
+                acc &= ~bits[block];
+            }
+            if (excludedMask != 0 || verifyPattern != null) {
+                for (long m = acc; m != 0; m &= m - 1) {
+                    int bit = Long.numberOfTrailingZeros(m);
+                    int local = (block << 6) | bit;
+                    if ((bucket.masks[local] & excludedMask) != 0 || !verified(local)) {
+                        acc &= ~(1L << bit);
+                    }
+                }
+            }
+            return acc;
+        }
+
+        // El bitset OTHER agrupa todos los caracteres raros: se compara el caracter exacto
+        private boolean verified(int local) {
+            if (verifyPattern == null) return true;
+            String word = entries.get(bucket.ids[local]).getWord();
+            for (int p = 0; p < word.length(); p++) {
+                char c = verifyPattern.charAt(p);
+                if (c != HIDDEN && slot(c) == OTHER && word.charAt(p) != c) return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Matches implements PrimitiveIterator.OfInt {
+        private final Plan plan;
+        private final int blocks;
+        private int block = -1;
+        private long pending;
+
+        Matches(Plan plan) {
+            this.plan = plan;
+            this.blocks = plan.blocks();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending == 0) {
+                if (block + 1 >= blocks) return false;
+                pending = plan.block(++block);
+            }
+            return true;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int bit = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            return plan.bucket.ids[(block << 6) | bit];
+        }
+    }
+}
@@ -1,51 +1,361 @@
 
 package com.poo.ahorcado.logic;
 
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.data.OffHeapWordStore;
 import com.poo.ahorcado.data.WordLoader;
+import com.poo.ahorcado.jfr.WordBankLoadEvent;
+import com.poo.ahorcado.metrics.GameMetrics;
 import com.poo.ahorcado.model.Category;
 import com.poo.ahorcado.model.WordEntry;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 
 /**
  * Banco de palabras. Carga palabras desde un archivo externo
  * y proporciona acceso aleatorio a ellas.
  */
 public class WordBank {
-    private final List<WordEntry> entries;
+    private final CompletableFuture<Contents> contents;
     private final Random random;
+    private volatile DifficultyIndex difficultyIndex;   // null = sin puntajes
+    private final Map<String, PatternIndex> patternIndexes = new ConcurrentHashMap<>();
+    private volatile LetterAdvisor letterAdvisor;
+    
+    /**
+     * Palabras cargadas, su índice por categoría (y las posiciones de cada
+     * categoría en el banco) y, si hay pesos distintos, tablas de alias para
+     * elegir con probabilidad proporcional al peso.
+     * Se construye una vez por carga, no en cada selección.
+     */
+    private static class Contents {
+        final List<WordEntry> entries;
+        final Map<Category, List<WordEntry>> byCategory;
+        final Function<Category, int[]> ids;               // null = categoría sin palabras
+        final AliasTable aliasAll;                         // null = selección uniforme
+        final Map<Category, AliasTable> aliasByCategory;   // vacío = selección uniforme
+        
+        Contents(List<WordEntry> entries) {
+            this(entries, indexByCategory(entries));
+        }
+        
+        Contents(List<WordEntry> entries, Map<Category, List<WordEntry>> byCategory) {
+            this(entries, byCategory, c -> {
+                List<WordEntry> list = c == null ? entries : byCategory.get(c);
+                return i -> list.get(i).getWeight();
+            }, positionsByCategory(entries, byCategory)::get);
+        }
+        
+        /**
+         * @param weights peso por posición en la lista de la categoría (null =
+         *                todas las entradas), para no crear WordEntry si las
+         *                palabras están fuera del heap
+         * @param ids     posiciones en {@code entries} de las palabras de la
+         *                categoría, en orden ascendente
+         */
+        Contents(List<WordEntry> entries, Map<Category, List<WordEntry>> byCategory,
+                 Function<Category, IntToDoubleFunction> weights, Function<Category, int[]> ids) {
+            this.entries = entries;
+            this.byCategory = byCategory;
+            this.ids = ids;
+            this.aliasAll = aliasTable(entries.size(), weights.apply(null));
+            this.aliasByCategory = new HashMap<>();
+            if (aliasAll != null) {
+                for (Map.Entry<Category, List<WordEntry>> e : byCategory.entrySet()) {
+                    AliasTable table = aliasTable(e.getValue().size(), weights.apply(e.getKey()));
+                    if (table != null) aliasByCategory.put(e.getKey(), table);
+                }
+            }
+        }
+        
+        /**
+         * Tabla de alias de los pesos, o null si todos son iguales.
+         */
+        private static AliasTable aliasTable(int size, IntToDoubleFunction weight) {
+            double[] weights = new double[size];
+            boolean uniform = true;
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = weight.applyAsDouble(i);
+                uniform &= weights[i] == weights[0];
+            }
+            return uniform ? null : new AliasTable(weights);
+        }
+    }
     
     /**
      * Constructor que carga palabras desde el archivo de recursos.
      */
     public WordBank() {
-        this.random = new Random(System.nanoTime());
-        WordLoader loader = new WordLoader();
-        this.entries = loader.loadWords();
+        this(load(), System.nanoTime());
     }
     
     /**
      * Constructor alternativo que permite inyectar palabras (útil para testing).
      */
     public WordBank(List<WordEntry> entries) {
-        this.random = new Random(System.nanoTime());
-        this.entries = entries;
+        this(entries, System.nanoTime());
+    }
+    
+    /**
+     * Constructor que carga palabras desde el archivo de recursos usando una
+     * semilla fija, de modo que la secuencia de palabras sea reproducible.
+     */
+    public WordBank(long seed) {
+        this(load(), seed);
+    }
+    
+    /**
+     * Constructor con palabras inyectadas y semilla fija (útil para testing y benchmarks).
+     */
+    public WordBank(List<WordEntry> entries, long seed) {
+        this.random = new Random(seed);
+        this.contents = CompletableFuture.completedFuture(new Contents(entries));
+    }
+    
+    private WordBank(CompletableFuture<Contents> contents, long seed) {
+        this.random = new Random(seed);
+        this.contents = contents;
+    }
+    
+    /**
+     * Crea un banco que carga las palabras en segundo plano (Gson, categorías y
+     * validación), para que la UI pueda mostrar el primer prompt mientras tanto.
+     * La primera selección de palabra espera a que termine la carga.
+     */
+    public static WordBank loadAsync() {
+        return new WordBank(CompletableFuture.supplyAsync(() -> new Contents(load())), System.nanoTime());
+    }
+    
+    /**
+     * Crea un banco con las palabras de otro que todavía se está cargando.
+     */
+    static WordBank deferred(CompletableFuture<WordBank> source) {
+        return new WordBank(source.thenApply(WordBank::contents), System.nanoTime());
+    }
+    
+    /**
+     * Crea un banco sobre palabras guardadas fuera del heap. El store ya viene
+     * agrupado por categoría y cada selección crea solo el WordEntry elegido.
+     */
+    public static WordBank offHeap(OffHeapWordStore store) {
+        return offHeap(store, System.nanoTime());
+    }
+    
+    public static WordBank offHeap(OffHeapWordStore store, long seed) {
+        Map<Category, List<WordEntry>> byCategory = store.byCategory();
+        Contents contents = new Contents(store.asList(), byCategory, c -> {
+            int first = c == null ? 0 : store.firstIndex(c);
+            return i -> store.weight(first + i);
+        }, c -> {
+            // cada categoría ocupa un rango contiguo del store
+            int first = store.firstIndex(c);
+            if (first < 0) return null;
+            int[] ids = new int[byCategory.get(c).size()];
+            for (int i = 0; i < ids.length; i++) ids[i] = first + i;
+            return ids;
+        });
+        return new WordBank(CompletableFuture.completedFuture(contents), seed);
+    }
+    
+    /**
+     * Obtiene el contenido, esperando la carga en segundo plano si hace falta.
+     */
+    private Contents contents() {
+        try {
+            return contents.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Agrupa las palabras por categoría, conservando el orden original.
+     */
+    private static Map<Category, List<WordEntry>> indexByCategory(List<WordEntry> entries) {
+        WordBankLoadEvent event = new WordBankLoadEvent();
+        event.begin();
+        Map<Category, List<WordEntry>> index = new HashMap<>();
+        for (WordEntry e : entries) {
+            index.computeIfAbsent(e.getCategory(), k -> new ArrayList<>()).add(e);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = WordBankLoadEvent.INDEX;
+            event.entries = entries.size();
+            event.commit();
+        }
+        return index;
+    }
+
+    /**
+     * Posiciones en {@code entries} de las palabras de cada categoría. Las
+     * listas de byCategory conservan el orden original, así que la k-ésima
+     * palabra de una categoría es su k-ésima aparición en entries.
+     */
+    private static Map<Category, int[]> positionsByCategory(List<WordEntry> entries,
+                                                            Map<Category, List<WordEntry>> byCategory) {
+        Map<Category, int[]> positions = new HashMap<>();
+        for (Map.Entry<Category, List<WordEntry>> e : byCategory.entrySet()) {
+            positions.put(e.getKey(), new int[e.getValue().size()]);
+        }
+        Map<Category, Integer> filled = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Category c = entries.get(i).getCategory();
+            positions.get(c)[filled.merge(c, 1, Integer::sum) - 1] = i;
+        }
+        return positions;
+    }
+
+    private static List<WordEntry> load() {
+        long start = System.nanoTime();
+        List<WordEntry> loaded = new WordLoader().loadWords();
+        GameMetrics.wordBankLoaded(System.nanoTime() - start);
+        return loaded;
+    }
+
+    /**
+     * Palabras de la categoría (o todas si es empty o la categoría está vacía),
+     * en el orden del archivo. Vista de solo lectura.
+     */
+    List<WordEntry> entriesFor(Optional<Category> c) {
+        Contents loaded = contents();
+        List<WordEntry> filtered = c.isPresent() ? loaded.byCategory.get(c.get()) : null;
+        return Collections.unmodifiableList(filtered == null || filtered.isEmpty() ? loaded.entries : filtered);
+    }
+
+    /**
+     * Posiciones en el banco de las palabras de la categoría (de todas si es
+     * empty o la categoría está vacía), en orden ascendente. No recorre ni
+     * crea las entradas: O(palabras de la categoría).
+     */
+    int[] idsFor(Optional<Category> c) {
+        Contents loaded = contents();
+        int[] ids = c.isPresent() ? loaded.ids.apply(c.get()) : null;
+        if (ids != null && ids.length > 0) {
+            return ids.clone();
+        }
+        int[] all = new int[loaded.entries.size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        return all;
+    }
+
+    /**
+     * Calcula en segundo plano (al terminar la carga) la dificultad empírica
+     * de cada palabra y la usa desde entonces en random(categoría, dificultad).
+     */
+    public CompletableFuture<DifficultyIndex> scoreDifficulty(DifficultyScorer scorer) {
+        return contents.thenApplyAsync(loaded -> {
+            DifficultyIndex index = scorer.score(loaded.entries);
+            difficultyIndex = index;
+            return index;
+        });
+    }
+    
+    /**
+     * Índice de dificultad, si ya se calculó.
+     */
+    public Optional<DifficultyIndex> getDifficultyIndex() {
+        return Optional.ofNullable(difficultyIndex);
+    }
+    
+    /**
+     * Índice de consultas por patrón de la categoría (o de todo el banco si es
+     * empty o la categoría está vacía). Se construye la primera vez que se pide;
+     * los ids que devuelve son posiciones en esa lista.
+     */
+    public PatternIndex getPatternIndex(Optional<Category> c) {
+        List<WordEntry> list = entriesFor(c);
+        String key = c.isPresent() && list.size() < contents().entries.size() ? c.get().getName() : "*";
+        return patternIndexes.computeIfAbsent(key, k -> new PatternIndex(list));
+    }
+    
+    /**
+     * Asesor de la pista de letra por entropía. Sus tablas de frecuencias se
+     * calculan la primera vez que se pide.
+     */
+    public LetterAdvisor getLetterAdvisor() {
+        LetterAdvisor advisor = letterAdvisor;
+        if (advisor == null) {
+            synchronized (this) {
+                advisor = letterAdvisor;
+                if (advisor == null) {
+                    advisor = new LetterAdvisor(this, contents().entries);
+                    letterAdvisor = advisor;
+                }
+            }
+        }
+        return advisor;
+    }
+    
+    /**
+     * Palabra para la categoría (o cualquiera) y la dificultad. Si hay índice
+     * de dificultad se elige dentro de la franja de esa dificultad; si no,
+     * igual que randomByCategory / randomAny.
+     */
+    public WordEntry random(Optional<Category> c, Difficulty difficulty) {
+        DifficultyIndex index = difficultyIndex;
+        if (index != null) {
+            int id = index.pick(c, difficulty, random);
+            if (id >= 0) {
+                GameMetrics.wordSelected(c.orElse(null));
+                return contents().entries.get(id);
+            }
+        }
+        return c.isPresent() ? randomByCategory(c.get()) : randomAny();
     }
 
     public WordEntry randomAny() {
-        return entries.get(random.nextInt(entries.size()));
+        GameMetrics.wordSelected(null);
+        return pickAny();
+    }
+
+    private WordEntry pickAny() {
+        Contents loaded = contents();
+        return pick(loaded.entries, loaded.aliasAll);
     }
 
     public WordEntry randomByCategory(Category c) {
-        List<WordEntry> filtered = entries.stream()
-                .filter(e -> e.getCategory().equals(c))
-                .collect(Collectors.toList());
-        if (filtered.isEmpty()) {
-            return randomAny(); // fallback if category is empty
+        Contents loaded = contents();
+        List<WordEntry> filtered = loaded.byCategory.get(c);
+        GameMetrics.wordSelected(c);
+        if (filtered == null || filtered.isEmpty()) {
+            return pickAny(); // fallback if category is empty
         }
-        return filtered.get(random.nextInt(filtered.size()));
+        return pick(filtered, loaded.aliasByCategory.get(c));
+    }
+
+    /**
+     * Tabla de alias de la categoría (en el orden del banco), de todas las
+     * palabras si la categoría está vacía, o null si la selección es uniforme.
+     */
+    AliasTable aliasFor(Optional<Category> c) {
+        Contents loaded = contents();
+        List<WordEntry> filtered = c.isPresent() ? loaded.byCategory.get(c.get()) : null;
+        if (filtered == null || filtered.isEmpty()) {
+            return loaded.aliasAll;
+        }
+        return loaded.aliasByCategory.get(c.get());
+    }
+
+    /**
+     * Elige con peso si la lista tiene tabla de alias, o uniforme si no. O(1).
+     */
+    private WordEntry pick(List<WordEntry> list, AliasTable alias) {
+        return list.get(alias != null ? alias.sample(random) : random.nextInt(list.size()));
     }
     
 }
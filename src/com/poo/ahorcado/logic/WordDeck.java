@@ -0,0 +1,296 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.metrics.GameMetrics;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selección sin repetición: cada jugador recorre un "mazo" barajado por
+ * categoría y no vuelve a ver una palabra hasta agotar el mazo.
+ * 
+ * El mazo es una permutación que se baraja de a una carta (Fisher–Yates
+ * incremental): solo se guardan las posiciones intercambiadas, así que
+ * sacar una palabra es O(1) y el mazo ocupa memoria proporcional a las
+ * palabras ya jugadas, no al tamaño de la categoría.
+ * 
+ * Cada jugador tiene además un BitSet de palabras vistas (id = posición en
+ * el banco), compartido entre sus mazos: una palabra jugada desde "cualquier
+ * categoría" se aparta de las cartas pendientes del mazo de su categoría, y
+ * viceversa, sin volver a sortear. Apartarla cuesta O(log n) por cada otro
+ * mazo abierto del jugador (pocos: uno por categoría y dificultad jugada).
+ * Al agotarse un mazo se baraja de nuevo y se olvidan solo las palabras que
+ * repartió ese mazo; las vistas en otros mazos siguen apartadas.
+ * 
+ * Si las palabras tienen pesos distintos, cada carta se sortea con la tabla
+ * de alias del banco (o de la franja de dificultad): cada palabra sigue
+ * saliendo una vez por ciclo, pero las de más peso salen antes. Si el
+ * sorteo cae varias veces en cartas ya repartidas (queda poco peso
+ * pendiente) se elige uniforme entre las pendientes.
+ */
+public class WordDeck {
+    
+    private static final String ANY = "*";
+    
+    private final WordBank bank;
+    private final long seed;
+    private final Map<String, Cards> cardsByKey = new ConcurrentHashMap<>();
+    private final Map<String, PlayerDecks> players = new ConcurrentHashMap<>();
+    
+    /**
+     * El banco no se consulta hasta la primera selección (puede estar cargándose).
+     */
+    public WordDeck(WordBank bank, long seed) {
+        this.bank = bank;
+        this.seed = seed;
+    }
+    
+    /**
+     * Estrategia de selección para Game.startNew con los mazos del jugador.
+     */
+    public WordSelector forPlayer(String playerId) {
+        return (category, difficulty) -> next(playerId, category, difficulty);
+    }
+    
+    /**
+     * Siguiente palabra del mazo del jugador para la categoría (o cualquiera).
+     */
+    public WordEntry next(String playerId, Optional<Category> category) {
+        return next(playerId, category, null);
+    }
+    
+    /**
+     * Siguiente palabra del mazo del jugador para la categoría y la dificultad.
+     * Si el banco tiene índice de dificultad, el mazo solo tiene las palabras
+     * de esa dificultad; si no, la dificultad no cambia nada.
+     */
+    public WordEntry next(String playerId, Optional<Category> category, Difficulty difficulty) {
+        GameMetrics.wordSelected(category.orElse(null));
+        Optional<DifficultyIndex> index = difficulty != null ? bank.getDifficultyIndex() : Optional.empty();
+        String key = category.map(Category::getName).orElse(ANY)
+                + (index.isPresent() ? "/" + difficulty.name() : "");
+        Cards cards = cardsByKey.computeIfAbsent(key, k -> {
+            int[] band = index.isPresent() ? index.get().ids(category, difficulty) : new int[0];
+            if (band.length > 0) return new Cards(band, index.get().alias(category, difficulty));
+            return new Cards(bank.idsFor(category), bank.aliasFor(category));
+        });
+        PlayerDecks decks = players.computeIfAbsent(playerId,
+                id -> new PlayerDecks(new SplittableRandom(seed ^ id.hashCode())));
+        int id = decks.draw(key, cards);
+        return bank.entriesFor(Optional.empty()).get(id);
+    }
+    
+    /**
+     * Palabras que el jugador ya vio en los mazos actuales.
+     */
+    public int getSeenCount(String playerId) {
+        PlayerDecks decks = players.get(playerId);
+        return decks == null ? 0 : decks.seenCount();
+    }
+    
+    /**
+     * Cartas de un mazo: ids de las palabras en orden fijo, compartidos por
+     * todos los jugadores, y su tabla de alias si hay pesos. Si los ids no
+     * están ordenados (franjas de dificultad) se guarda además un índice
+     * ordenado por id.
+     */
+    private static final class Cards {
+        private final int[] ids;
+        private final AliasTable alias;   // null = uniforme
+        private final long[] byId;
+        
+        Cards(int[] ids, AliasTable alias) {
+            this.ids = ids;
+            this.alias = alias;
+            boolean sorted = true;
+            for (int i = 1; i < ids.length && sorted; i++) sorted = ids[i - 1] < ids[i];
+            if (sorted) {
+                byId = null;
+            } else {
+                byId = new long[ids.length];
+                for (int i = 0; i < ids.length; i++) byId[i] = (long) ids[i] << 32 | i;
+                Arrays.sort(byId);
+            }
+        }
+        
+        int size() {
+            return ids.length;
+        }
+        
+        /** Carta con ese id, o -1 si la palabra no está en el mazo. O(log n). */
+        int indexOf(int id) {
+            if (byId == null) {
+                int i = Arrays.binarySearch(ids, id);
+                return i >= 0 ? i : -1;
+            }
+            int i = Arrays.binarySearch(byId, (long) id << 32);
+            if (i < 0) i = -i - 1;
+            return i < byId.length && (int) (byId[i] >>> 32) == id ? (int) byId[i] : -1;
+        }
+    }
+    
+    /**
+     * Mazos y palabras vistas de un jugador.
+     */
+    private static final class PlayerDecks {
+        private final SplittableRandom random;
+        private final BitSet seen = new BitSet();
+        private final Map<String, Deck> decks = new HashMap<>();
+        
+        PlayerDecks(SplittableRandom random) {
+            this.random = random;
+        }
+        
+        synchronized int draw(String key, Cards cards) {
+            Deck deck = decks.get(key);
+            if (deck == null) {
+                deck = new Deck(cards);
+                decks.put(key, deck);
+                removeSeen(deck);
+            }
+            if (deck.isEmpty()) {
+                restart(deck);
+            }
+            int id = cards.ids[deck.draw(random)];
+            if (!seen.get(id)) {
+                seen.set(id);
+                deck.own(id);
+            }
+            // la palabra sale de las cartas pendientes de los demás mazos
+            for (Deck other : decks.values()) {
+                if (other != deck) other.remove(other.cards.indexOf(id));
+            }
+            return id;
+        }
+        
+        /**
+         * Nuevo ciclo: se olvidan solo las palabras que repartió este mazo y
+         * se apartan las que siguen vistas en otros. Si no queda ninguna, el
+         * ciclo las incluye a todas.
+         */
+        private void restart(Deck deck) {
+            for (int i = 0; i < deck.ownCount; i++) seen.clear(deck.own[i]);
+            deck.reset();
+            removeSeen(deck);
+            if (deck.isEmpty()) deck.reset();
+        }
+        
+        /**
+         * Aparta del mazo las palabras vistas, recorriendo lo más corto: las
+         * repartidas por los otros mazos o las cartas de este.
+         */
+        private void removeSeen(Deck deck) {
+            int others = 0;
+            for (Deck other : decks.values()) {
+                if (other != deck) others += other.ownCount;
+            }
+            if (others < deck.cards.size()) {
+                for (Deck other : decks.values()) {
+                    if (other == deck) continue;
+                    for (int i = 0; i < other.ownCount; i++) deck.remove(deck.cards.indexOf(other.own[i]));
+                }
+            } else {
+                for (int card = 0; card < deck.cards.size(); card++) {
+                    if (seen.get(deck.cards.ids[card])) deck.remove(card);
+                }
+            }
+        }
+        
+        synchronized int seenCount() {
+            return seen.cardinality();
+        }
+    }
+    
+    /**
+     * Permutación de las cartas barajada de a una posición: [0, drawn) son
+     * las ya repartidas o apartadas y [drawn, size) las pendientes. Solo se
+     * guardan las posiciones que no conservan su carta, en los dos sentidos,
+     * así que sacar o apartar una carta es O(1).
+     */
+    private static final class Deck {
+        /** Sorteos con peso antes de elegir uniforme entre las pendientes. */
+        private static final int WEIGHTED_TRIES = 8;
+        
+        private final Cards cards;
+        private final Map<Integer, Integer> cardAt = new HashMap<>();
+        private final Map<Integer, Integer> positionOf = new HashMap<>();
+        private int drawn;
+        /** Ids que repartió este mazo en el ciclo actual. */
+        private int[] own = new int[8];
+        private int ownCount;
+        
+        Deck(Cards cards) {
+            this.cards = cards;
+        }
+        
+        boolean isEmpty() {
+            return drawn == cards.size();
+        }
+        
+        int draw(SplittableRandom random) {
+            if (cards.alias != null) {
+                for (int i = 0; i < WEIGHTED_TRIES; i++) {
+                    int card = cards.alias.sample(random);
+                    int position = positionOf.getOrDefault(card, card);
+                    if (position >= drawn) {
+                        swap(drawn++, position);
+                        return card;
+                    }
+                }
+            }
+            swap(drawn, drawn + random.nextInt(cards.size() - drawn));
+            return cardAt(drawn++);
+        }
+        
+        /** Pasa la carta a las repartidas si estaba pendiente. */
+        void remove(int card) {
+            if (card < 0) return;
+            int position = positionOf.getOrDefault(card, card);
+            if (position >= drawn) {
+                swap(drawn++, position);
+            }
+        }
+        
+        void own(int id) {
+            if (ownCount == own.length) own = Arrays.copyOf(own, ownCount * 2);
+            own[ownCount++] = id;
+        }
+        
+        void reset() {
+            drawn = 0;
+            ownCount = 0;
+            cardAt.clear();
+            positionOf.clear();
+        }
+        
+        private int cardAt(int position) {
+            return cardAt.getOrDefault(position, position);
+        }
+        
+        private void swap(int p, int q) {
+            if (p == q) return;
+            int a = cardAt(p);
+            int b = cardAt(q);
+            place(p, b);
+            place(q, a);
+        }
+        
+        private void place(int position, int card) {
+            if (position == card) {
+                cardAt.remove(position);
+                positionOf.remove(card);
+            } else {
+                cardAt.put(position, card);
+                positionOf.put(card, position);
+            }
+        }
+    }
+}
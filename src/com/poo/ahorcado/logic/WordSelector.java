@@ -0,0 +1,29 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.Optional;
+
+/**
+ * Estrategia para elegir la palabra de una partida nueva (ver Game.startNew).
+ */
+@FunctionalInterface
+public interface WordSelector {
+    
+    /**
+     * Elige una palabra.
+     * @param category   categoría pedida, o empty para cualquiera
+     * @param difficulty dificultad de la partida
+     */
+    WordEntry select(Optional<Category> category, Difficulty difficulty);
+    
+    /**
+     * Selección aleatoria del banco (el comportamiento por defecto de Game).
+     * Usa el índice de dificultad del banco si ya está calculado.
+     */
+    static WordSelector random(WordBank bank) {
+        return bank::random;
+    }
+}
@@ -0,0 +1,94 @@
+package com.poo.ahorcado.logic.event;
+
+import com.poo.ahorcado.model.WordEntry;
+
+/**
+ * Evento emitido por Game cada vez que cambia el estado de la partida.
+ * Las vistas, estadísticas o logs pueden suscribirse a estos eventos
+ * en lugar de comparar snapshots de GameState.
+ */
+public final class GameEvent {
+    
+    /**
+     * Tipos de evento que puede publicar una partida.
+     */
+    public enum Type {
+        LETTER_REVEALED,
+        MISS,
+        DUPLICATE,
+        HINT_USED,
+        WON,
+        LOST
+    }
+    
+    /**
+     * Tipos de pista (solo para eventos HINT_USED).
+     */
+    public enum HintKind {
+        CATEGORY,
+        LETTER,
+        TEXT
+    }
+    
+    private final Type type;
+    private final WordEntry word;
+    private final char letter;
+    private final int revealed;
+    private final int errors;
+    private final HintKind hintKind;
+    
+    private GameEvent(Type type, WordEntry word, char letter, int revealed, int errors, HintKind hintKind) {
+        this.type = type;
+        this.word = word;
+        this.letter = letter;
+        this.revealed = revealed;
+        this.errors = errors;
+        this.hintKind = hintKind;
+    }
+    
+    public static GameEvent letterRevealed(WordEntry word, char letter, int revealed, int errors) {
+        return new GameEvent(Type.LETTER_REVEALED, word, letter, revealed, errors, null);
+    }
+    
+    public static GameEvent miss(WordEntry word, char letter, int errors) {
+        return new GameEvent(Type.MISS, word, letter, 0, errors, null);
+    }
+    
+    public static GameEvent duplicate(WordEntry word, char letter, int errors) {
+        return new GameEvent(Type.DUPLICATE, word, letter, 0, errors, null);
+    }
+    
+    public static GameEvent hintUsed(WordEntry word, HintKind kind, char letter, int errors) {
+        return new GameEvent(Type.HINT_USED, word, letter, 0, errors, kind);
+    }
+    
+    public static GameEvent won(WordEntry word, int errors) {
+        return new GameEvent(Type.WON, word, '\0', 0, errors, null);
+    }
+    
+    public static GameEvent lost(WordEntry word, int errors) {
+        return new GameEvent(Type.LOST, word, '\0', 0, errors, null);
+    }
+    
+    public Type getType() { return type; }
+    
+    public WordEntry getWord() { return word; }
+    
+    /** Letra adivinada (o '\0' si el evento no corresponde a una letra). */
+    public char getLetter() { return letter; }
+    
+    /** Número de posiciones reveladas por la letra (solo LETTER_REVEALED). */
+    public int getRevealed() { return revealed; }
+    
+    /** Errores acumulados al momento del evento. */
+    public int getErrors() { return errors; }
+    
+    /** Tipo de pista usada (solo HINT_USED). */
+    public HintKind getHintKind() { return hintKind; }
+    
+    @Override
+    public String toString() {
+        return "GameEvent{" + type + (letter != '\0' ? ", letra=" + letter : "")
+                + (hintKind != null ? ", pista=" + hintKind : "") + ", errores=" + errors + "}";
+    }
+}
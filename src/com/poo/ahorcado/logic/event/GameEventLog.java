@@ -0,0 +1,73 @@
+package com.poo.ahorcado.logic.event;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.concurrent.Flow;
+
+/**
+ * Suscriptor que escribe una línea por evento (registro de partidas):
+ * instante, tipo, letra, posiciones reveladas y errores. La palabra solo se
+ * escribe al terminar la partida (WON / LOST), para no adelantarla en el log.
+ *
+ * Recibe los eventos en un hilo del publicador (no en el del juego) y vacía
+ * el Writer después de cada línea, así que el log está completo aunque el
+ * proceso termine sin cerrar el publicador. Al completarse el flujo cierra
+ * el Writer.
+ */
+public class GameEventLog implements Flow.Subscriber<GameEvent> {
+
+    private final Writer out;
+    private Flow.Subscription subscription;
+
+    public GameEventLog(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(GameEvent event) {
+        StringBuilder line = new StringBuilder(64);
+        line.append(Instant.now()).append(' ').append(event.getType());
+        if (event.getLetter() != '\0') line.append(" letra=").append(event.getLetter());
+        if (event.getType() == GameEvent.Type.LETTER_REVEALED) line.append(" reveladas=").append(event.getRevealed());
+        if (event.getHintKind() != null) line.append(" pista=").append(event.getHintKind());
+        line.append(" errores=").append(event.getErrors());
+        if (event.getType() == GameEvent.Type.WON || event.getType() == GameEvent.Type.LOST) {
+            line.append(" palabra=").append(event.getWord().getWord());
+        }
+        try {
+            out.write(line.append('\n').toString());
+            out.flush();
+        } catch (IOException e) {
+            // sin log no tiene sentido seguir recibiendo eventos
+            System.err.println("Advertencia: no se pudo escribir el log de eventos: " + e.getMessage());
+            subscription.cancel();
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        System.err.println("Advertencia: el flujo de eventos terminó con error: " + throwable);
+        closeQuietly();
+    }
+
+    @Override
+    public void onComplete() {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Advertencia: no se pudo cerrar el log de eventos: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.poo.ahorcado.logic.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica los eventos de las partidas usando java.util.concurrent.Flow.
+ * 
+ * Cada suscriptor tiene su propio buffer acotado y recibe los eventos en
+ * otro hilo, respetando su demanda (backpressure). Si un suscriptor lento
+ * llena su buffer, los eventos para él se descartan en lugar de bloquear
+ * el bucle del juego; el total de descartes se puede consultar.
+ */
+public class GameEventPublisher implements AutoCloseable {
+    
+    private static final int DEFAULT_BUFFER = Flow.defaultBufferSize();
+    
+    private final SubmissionPublisher<GameEvent> publisher;
+    private final LongAdder dropped = new LongAdder();
+    
+    public GameEventPublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER);
+    }
+    
+    public GameEventPublisher(Executor executor, int bufferSize) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferSize);
+    }
+    
+    /**
+     * Registra un suscriptor que recibirá todos los eventos futuros.
+     */
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+    
+    /**
+     * Indica si hay suscriptores (permite evitar crear eventos sin destinatario).
+     */
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+    
+    /**
+     * Publica un evento sin bloquear. Los suscriptores saturados lo pierden.
+     */
+    public void publish(GameEvent event) {
+        publisher.offer(event, (subscriber, ev) -> {
+            dropped.increment();
+            return false;
+        });
+    }
+    
+    /**
+     * Número de eventos descartados por suscriptores saturados.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -0,0 +1,201 @@
+package com.poo.ahorcado.metrics;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.model.Category;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de métricas del juego y del banco de palabras.
+ * 
+ * Usa contadores LongAdder e histogramas sin locks para que registrar
+ * desde el camino caliente (Game.guess) sea prácticamente gratis. Se puede
+ * desactivar por completo con {@code -Dahorcado.metrics=false}; en ese caso
+ * los puntos de medición se reducen a una constante que el JIT elimina.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    
+    /** Indica si las métricas están activas (fijo durante toda la ejecución). */
+    public static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("ahorcado.metrics", "true"));
+    
+    private static final String OBJECT_NAME = "com.poo.ahorcado:type=GameMetrics";
+    private static final String ANY = "any";
+    
+    private static final GameMetrics INSTANCE = new GameMetrics();
+    
+    private final ConcurrentHashMap<String, LongAdder> started = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> won = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> lost = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> selections = new ConcurrentHashMap<>();
+    private final LongAdder totalWon = new LongAdder();
+    private final LongAdder totalLost = new LongAdder();
+    private final LatencyHistogram guessLatency = new LatencyHistogram();
+    private final LatencyHistogram hintLatency = new LatencyHistogram();
+    private final LongAdder bankLoads = new LongAdder();
+    private volatile long lastBankLoadMillis;
+    
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+    
+    private GameMetrics() {
+    }
+    
+    /**
+     * Obtiene la instancia única del registro.
+     */
+    public static GameMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    private static void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException | SecurityException e) {
+            System.err.println("Advertencia: no se pudo registrar el MBean de métricas: " + e.getMessage());
+        }
+    }
+    
+    // ---- Puntos de medición (no hacen nada si las métricas están desactivadas) ----
+    
+    /**
+     * Inicio de una medición de latencia; 0 si las métricas están desactivadas.
+     */
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+    
+    public static void guessDone(long start) {
+        if (ENABLED) INSTANCE.guessLatency.record(System.nanoTime() - start);
+    }
+    
+    public static void hintDone(long start) {
+        if (ENABLED) INSTANCE.hintLatency.record(System.nanoTime() - start);
+    }
+    
+    public static void gameStarted(Difficulty difficulty, Category category) {
+        if (ENABLED) increment(INSTANCE.started, key(difficulty, category));
+    }
+    
+    public static void gameFinished(Difficulty difficulty, Category category, boolean isWon) {
+        if (!ENABLED) return;
+        if (isWon) {
+            increment(INSTANCE.won, key(difficulty, category));
+            INSTANCE.totalWon.increment();
+        } else {
+            increment(INSTANCE.lost, key(difficulty, category));
+            INSTANCE.totalLost.increment();
+        }
+    }
+    
+    public static void wordBankLoaded(long nanos) {
+        if (!ENABLED) return;
+        INSTANCE.bankLoads.increment();
+        INSTANCE.lastBankLoadMillis = nanos / 1_000_000;
+    }
+    
+    /**
+     * Registra una selección de palabra; category null significa "cualquiera".
+     */
+    public static void wordSelected(Category category) {
+        if (ENABLED) increment(INSTANCE.selections, category == null ? ANY : category.getName());
+    }
+    
+    private static String key(Difficulty difficulty, Category category) {
+        return difficulty.name() + "/" + category.getName();
+    }
+    
+    private static void increment(ConcurrentHashMap<String, LongAdder> map, String key) {
+        LongAdder adder = map.get(key);
+        if (adder == null) {
+            adder = map.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+    
+    private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> map) {
+        Map<String, Long> result = new TreeMap<>();
+        map.forEach((k, v) -> result.put(k, v.sum()));
+        return result;
+    }
+    
+    // ---- MXBean ----
+    
+    @Override
+    public Map<String, Long> getGamesStarted() { return snapshot(started); }
+    
+    @Override
+    public Map<String, Long> getGamesWon() { return snapshot(won); }
+    
+    @Override
+    public Map<String, Long> getGamesLost() { return snapshot(lost); }
+    
+    @Override
+    public long getTotalGamesStarted() {
+        long total = 0;
+        for (LongAdder adder : started.values()) total += adder.sum();
+        return total;
+    }
+    
+    @Override
+    public double getWinRatio() {
+        long w = totalWon.sum();
+        long l = totalLost.sum();
+        return w + l == 0 ? 0.0 : (double) w / (w + l);
+    }
+    
+    @Override
+    public long getGuessCount() { return guessLatency.getCount(); }
+    
+    @Override
+    public double getGuessLatencyMeanNanos() { return guessLatency.getMean(); }
+    
+    @Override
+    public long getGuessLatencyP99Nanos() { return guessLatency.getPercentile(99); }
+    
+    @Override
+    public long getHintCount() { return hintLatency.getCount(); }
+    
+    @Override
+    public double getHintLatencyMeanNanos() { return hintLatency.getMean(); }
+    
+    @Override
+    public long getHintLatencyP99Nanos() { return hintLatency.getPercentile(99); }
+    
+    @Override
+    public long getLastWordBankLoadMillis() { return lastBankLoadMillis; }
+    
+    @Override
+    public long getWordBankLoads() { return bankLoads.sum(); }
+    
+    @Override
+    public Map<String, Long> getWordSelections() { return snapshot(selections); }
+    
+    @Override
+    public void reset() {
+        started.clear();
+        won.clear();
+        lost.clear();
+        selections.clear();
+        totalWon.reset();
+        totalLost.reset();
+        guessLatency.reset();
+        hintLatency.reset();
+        bankLoads.reset();
+        lastBankLoadMillis = 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.poo.ahorcado.metrics;
+
+import java.util.Map;
+
+/**
+ * Vista JMX de las métricas del juego.
+ * Se registra como {@code com.poo.ahorcado:type=GameMetrics}.
+ */
+public interface GameMetricsMXBean {
+    
+    /** Partidas iniciadas por "DIFICULTAD/CATEGORIA". */
+    Map<String, Long> getGamesStarted();
+    
+    /** Partidas ganadas por "DIFICULTAD/CATEGORIA". */
+    Map<String, Long> getGamesWon();
+    
+    /** Partidas perdidas por "DIFICULTAD/CATEGORIA". */
+    Map<String, Long> getGamesLost();
+    
+    long getTotalGamesStarted();
+    
+    /** Proporción ganadas / (ganadas + perdidas). */
+    double getWinRatio();
+    
+    long getGuessCount();
+    
+    double getGuessLatencyMeanNanos();
+    
+    long getGuessLatencyP99Nanos();
+    
+    long getHintCount();
+    
+    double getHintLatencyMeanNanos();
+    
+    long getHintLatencyP99Nanos();
+    
+    /** Duración de la última carga del banco de palabras. */
+    long getLastWordBankLoadMillis();
+    
+    long getWordBankLoads();
+    
+    /** Selecciones de palabras por tipo ("any" o nombre de categoría). */
+    Map<String, Long> getWordSelections();
+    
+    void reset();
+}
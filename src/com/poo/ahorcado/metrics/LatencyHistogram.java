@@ -0,0 +1,70 @@
+package com.poo.ahorcado.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias sin locks.
+ * 
+ * Usa cubetas en potencias de 2 (en nanosegundos): registrar un valor es
+ * un cálculo de bits y un incremento atómico, sin sincronización. Los
+ * percentiles son aproximados (cota superior de la cubeta).
+ */
+public class LatencyHistogram {
+    
+    private static final int BUCKETS = 64;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    
+    /**
+     * Registra una medición en nanosegundos.
+     */
+    public void record(long nanos) {
+        int bucket = nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        sum.add(Math.max(nanos, 0));
+    }
+    
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Latencia media en nanosegundos.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+    
+    /**
+     * Percentil aproximado en nanosegundos (p entre 0 y 100).
+     */
+    public long getPercentile(double p) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+        long target = (long) Math.ceil(total * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+    
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+        count.reset();
+        sum.reset();
+    }
+}
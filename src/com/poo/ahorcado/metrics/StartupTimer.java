@@ -0,0 +1,30 @@
+package com.poo.ahorcado.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mide el tiempo desde el inicio de la JVM hasta el primer prompt.
+ * Solo reporta si se ejecuta con {@code -Dahorcado.startup.report=true}.
+ * 
+ * El instante actual se toma antes de consultar JMX, así que cargar
+ * RuntimeMXBean no se suma a la medición.
+ */
+public final class StartupTimer {
+    
+    private static final boolean REPORT = Boolean.getBoolean("ahorcado.startup.report");
+    private static volatile boolean reported;
+    
+    private StartupTimer() {
+    }
+    
+    /**
+     * Marca que el primer prompt está por mostrarse. Solo la primera llamada cuenta.
+     */
+    public static void firstPrompt() {
+        if (!REPORT || reported) return;
+        reported = true;
+        long now = System.currentTimeMillis();
+        long start = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println("Tiempo hasta el primer prompt: " + (now - start) + " ms");
+    }
+}
@@ -5,11 +5,17 @@ public class WordEntry {
     private final String word;     
     private final Category category;
     private final String textHint;  
+    private final double weight;    // peso relativo al elegir palabras (1 = normal)
     
     public WordEntry(String word, Category category, String textHint) {
+        this(word, category, textHint, 1.0);
+    }
+    
+    public WordEntry(String word, Category category, String textHint, double weight) {
         this.word = word.toUpperCase();
         this.category = category;
         this.textHint = textHint;  
+        this.weight = weight;
     }
     
     public String getWord() { return word; }
@@ -17,4 +23,6 @@ public class WordEntry {
     public Category getCategory() { return category; }
     
     public String getTextHint() { return textHint; }
+    
+    public double getWeight() { return weight; }
 }
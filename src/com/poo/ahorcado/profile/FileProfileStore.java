@@ -0,0 +1,99 @@
+package com.poo.ahorcado.profile;
+
+import com.google.gson.Gson;
+import com.poo.ahorcado.config.Difficulty;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Almacén de perfiles en disco: un archivo JSON por jugador dentro de un directorio.
+ */
+public class FileProfileStore {
+    
+    private final Path directory;
+    private final Gson gson = new Gson();
+    
+    public FileProfileStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+    
+    /**
+     * Lee un perfil; vacío si el jugador no tiene archivo.
+     */
+    public Optional<PlayerProfile> load(String playerId) throws IOException {
+        Path file = fileFor(playerId);
+        if (!Files.exists(file)) return Optional.empty();
+        ProfileData data;
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            data = gson.fromJson(in, ProfileData.class);
+        }
+        PlayerProfile profile = new PlayerProfile(playerId);
+        if (data != null) {
+            Difficulty preferred = null;
+            try {
+                preferred = data.preferredDifficulty != null ? Difficulty.valueOf(data.preferredDifficulty) : null;
+            } catch (IllegalArgumentException e) {
+                System.err.println("Advertencia: dificultad desconocida en el perfil de " + playerId);
+            }
+            profile.restore(preferred, data.seenWords != null ? new LinkedHashSet<>(data.seenWords) : null,
+                            data.gamesPlayed, data.wins);
+        }
+        return Optional.of(profile);
+    }
+    
+    /**
+     * Escribe un lote de perfiles (cada uno con reemplazo atómico).
+     */
+    public void saveAll(List<PlayerProfile> profiles) throws IOException {
+        for (PlayerProfile profile : profiles) {
+            ProfileData data = new ProfileData();
+            synchronized (profile) {
+                data.preferredDifficulty = profile.getPreferredDifficulty().name();
+                data.seenWords = List.copyOf(profile.getSeenWords());
+                data.gamesPlayed = profile.getGamesPlayed();
+                data.wins = profile.getWins();
+            }
+            Path file = fileFor(profile.getPlayerId());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                gson.toJson(data, out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+    
+    /**
+     * Nombre de archivo seguro para cualquier id de jugador.
+     */
+    private Path fileFor(String playerId) {
+        StringBuilder sb = new StringBuilder(playerId.length() + 5);
+        for (int i = 0; i < playerId.length(); i++) {
+            char c = playerId.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '-' || c == '.') {
+                sb.append(c);
+            } else {
+                sb.append('_').append(Integer.toHexString(c)).append('_');
+            }
+        }
+        return directory.resolve(sb.append(".json").toString());
+    }
+    
+    /**
+     * DTO para Gson.
+     */
+    static class ProfileData {
+        String preferredDifficulty;
+        List<String> seenWords;
+        long gamesPlayed;
+        long wins;
+    }
+}
@@ -0,0 +1,60 @@
+package com.poo.ahorcado.profile;
+
+import com.poo.ahorcado.config.Difficulty;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Perfil de un jugador: dificultad preferida, palabras ya vistas y contadores.
+ * Los métodos están sincronizados porque el perfil se comparte entre el
+ * controlador y el hilo de escritura en segundo plano.
+ */
+public class PlayerProfile {
+    
+    private final String playerId;
+    private Difficulty preferredDifficulty;
+    private final Set<String> seenWords;
+    private long gamesPlayed;
+    private long wins;
+    
+    public PlayerProfile(String playerId) {
+        this.playerId = playerId;
+        this.preferredDifficulty = Difficulty.getDefault();
+        this.seenWords = new LinkedHashSet<>();
+    }
+    
+    public String getPlayerId() { return playerId; }
+    
+    public synchronized Difficulty getPreferredDifficulty() { return preferredDifficulty; }
+    
+    public synchronized void setPreferredDifficulty(Difficulty difficulty) { this.preferredDifficulty = difficulty; }
+    
+    public synchronized boolean hasSeen(String word) { return seenWords.contains(word); }
+    
+    public synchronized Set<String> getSeenWords() { return new LinkedHashSet<>(seenWords); }
+    
+    public synchronized long getGamesPlayed() { return gamesPlayed; }
+    
+    public synchronized long getWins() { return wins; }
+    
+    /**
+     * Registra una partida terminada.
+     */
+    public synchronized void recordGame(Difficulty difficulty, String word, boolean won) {
+        preferredDifficulty = difficulty;
+        seenWords.add(word);
+        gamesPlayed++;
+        if (won) wins++;
+    }
+    
+    /**
+     * Restaura contadores persistidos (usado por el store).
+     */
+    synchronized void restore(Difficulty preferred, Set<String> seen, long gamesPlayed, long wins) {
+        if (preferred != null) this.preferredDifficulty = preferred;
+        if (seen != null) this.seenWords.addAll(seen);
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+    }
+}
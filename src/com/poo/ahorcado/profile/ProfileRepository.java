@@ -0,0 +1,145 @@
+package com.poo.ahorcado.profile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repositorio de perfiles con caché LRU en memoria delante de FileProfileStore.
+ * 
+ * - Las lecturas que no están en caché se cargan en un hilo de E/S; varias
+ *   peticiones concurrentes del mismo jugador comparten una sola carga.
+ * - Las escrituras son "write-behind": update() solo marca el perfil como
+ *   pendiente y un hilo en segundo plano guarda los pendientes por lotes.
+ *   Varias actualizaciones del mismo jugador antes del siguiente lote se
+ *   guardan una sola vez.
+ */
+public class ProfileRepository implements AutoCloseable {
+    
+    private final FileProfileStore store;
+    private final Map<String, PlayerProfile> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<PlayerProfile>> loading = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PlayerProfile> dirty = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService io;
+    
+    /**
+     * @param store           almacén en disco
+     * @param capacity        máximo de perfiles en caché
+     * @param flushIntervalMs cada cuánto se guardan los perfiles pendientes
+     */
+    public ProfileRepository(FileProfileStore store, int capacity, long flushIntervalMs) {
+        this.store = store;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PlayerProfile> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.io = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "profile-io");
+            t.setDaemon(true);
+            return t;
+        });
+        io.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Perfil en memoria, sin tocar disco. Vacío si aún no se cargó.
+     */
+    public Optional<PlayerProfile> getIfLoaded(String playerId) {
+        PlayerProfile pending = dirty.get(playerId);
+        if (pending != null) return Optional.of(pending);
+        synchronized (cache) {
+            return Optional.ofNullable(cache.get(playerId));
+        }
+    }
+    
+    /**
+     * Inicia (o reutiliza) la carga del perfil en segundo plano.
+     * Si el jugador no tiene perfil guardado se crea uno nuevo.
+     */
+    public CompletableFuture<PlayerProfile> prefetch(String playerId) {
+        Optional<PlayerProfile> loaded = getIfLoaded(playerId);
+        if (loaded.isPresent()) return CompletableFuture.completedFuture(loaded.get());
+        
+        return loading.computeIfAbsent(playerId, id -> CompletableFuture.supplyAsync(() -> {
+            try {
+                PlayerProfile profile = store.load(id).orElseGet(() -> new PlayerProfile(id));
+                synchronized (cache) {
+                    cache.putIfAbsent(id, profile);
+                    return cache.get(id);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error al cargar el perfil de " + id, e);
+            } finally {
+                loading.remove(id);
+            }
+        }, io));
+    }
+    
+    /**
+     * Perfil del jugador, esperando la carga si no está en memoria.
+     */
+    public PlayerProfile get(String playerId) {
+        return prefetch(playerId).join();
+    }
+    
+    /**
+     * Marca el perfil como modificado; se guardará en el próximo lote.
+     */
+    public void update(PlayerProfile profile) {
+        synchronized (cache) {
+            cache.put(profile.getPlayerId(), profile);
+        }
+        dirty.put(profile.getPlayerId(), profile);
+    }
+    
+    /**
+     * Guarda ahora todos los perfiles pendientes.
+     */
+    public void flush() throws IOException {
+        List<PlayerProfile> batch = new ArrayList<>();
+        Iterator<Map.Entry<String, PlayerProfile>> it = dirty.entrySet().iterator();
+        while (it.hasNext()) {
+            batch.add(it.next().getValue());
+            it.remove();
+        }
+        if (batch.isEmpty()) return;
+        try {
+            store.saveAll(batch);
+        } catch (IOException e) {
+            // Reencolar para el próximo intento, sin pisar cambios más nuevos
+            for (PlayerProfile p : batch) dirty.putIfAbsent(p.getPlayerId(), p);
+            throw e;
+        }
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Error al guardar perfiles: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        io.shutdown();
+        try {
+            io.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -0,0 +1,184 @@
+package com.poo.ahorcado.room;
+
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.GuessResult;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sala multijugador: muchos jugadores adivinan la misma palabra a la vez.
+ * 
+ * Todo el estado mutable cabe en un long que se actualiza con compare-and-set:
+ *   bits 0-26   letras intentadas (A-Z y Ñ)
+ *   bits 32-39  errores acumulados
+ * Las letras reveladas son (intentadas & letras de la palabra), por lo que
+ * no hace falta otra máscara. Solo el hilo cuyo CAS marca una letra la
+ * revela y publica el diff: cada letra se revela exactamente una vez, y
+ * los intentos concurrentes de la misma letra reciben DUPLICATE.
+ */
+public class GameRoom implements AutoCloseable {
+    
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZÑ";
+    
+    private static final int ERRORS_SHIFT = 32;
+    private static final long TRIED_MASK = (1L << ALPHABET.length()) - 1;
+    
+    private final String id;
+    private final WordEntry word;
+    private final int maxAttempts;
+    private final long wordLetters;          // letras presentes en la palabra
+    private final long[] positionsByLetter;  // por letra: posiciones donde aparece
+    private final AtomicLong state = new AtomicLong();
+    private final Set<String> players = ConcurrentHashMap.newKeySet();
+    private final SubmissionPublisher<RoomDiff> publisher;
+    private final LongAdder dropped = new LongAdder();
+    
+    public GameRoom(String id, WordEntry word, GameConfig config) {
+        this(id, word, config, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+    
+    /**
+     * @param executor   hilos que entregan los diffs a los suscriptores
+     * @param bufferSize buffer por suscriptor; si se llena, el diff se descarta
+     */
+    public GameRoom(String id, WordEntry word, GameConfig config, Executor executor, int bufferSize) {
+        String w = word.getWord();
+        if (w.length() > Long.SIZE) {
+            throw new IllegalArgumentException("Palabra demasiado larga para una sala: " + w);
+        }
+        this.id = id;
+        this.word = word;
+        this.maxAttempts = config.getMaxAttempts();
+        this.positionsByLetter = new long[ALPHABET.length()];
+        long letters = 0;
+        for (int i = 0; i < w.length(); i++) {
+            char c = w.charAt(i);
+            if (c == ' ') continue;
+            int slot = slot(c);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Carácter no soportado '" + c + "' en: " + w);
+            }
+            positionsByLetter[slot] |= 1L << i;
+            letters |= 1L << slot;
+        }
+        this.wordLetters = letters;
+        this.publisher = new SubmissionPublisher<>(executor, bufferSize);
+    }
+    
+    /**
+     * Posición de la letra en el alfabeto de la sala, o -1 si no es una letra válida.
+     */
+    static int slot(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c == 'Ñ') return 26;
+        return -1;
+    }
+    
+    /**
+     * Registra al jugador en la sala y retorna la palabra enmascarada actual.
+     */
+    public String join(String playerId) {
+        players.add(playerId);
+        return getMaskedWord();
+    }
+    
+    public void leave(String playerId) {
+        players.remove(playerId);
+    }
+    
+    /**
+     * Aplica la letra de un jugador. Es seguro llamarlo desde muchos hilos.
+     */
+    public GuessResult guess(String playerId, char raw) {
+        char c = Character.toUpperCase(raw);
+        int slot = slot(c);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Letra no válida: " + raw);
+        }
+        long bit = 1L << slot;
+        boolean hit = (wordLetters & bit) != 0;
+        
+        long current, next;
+        do {
+            current = state.get();
+            if (isFinished(current)) return GuessResult.FINISHED;
+            if ((current & bit) != 0) return GuessResult.DUPLICATE;
+            next = hit ? current | bit : (current | bit) + (1L << ERRORS_SHIFT);
+        } while (!state.compareAndSet(current, next));
+        
+        publish(playerId, c, hit ? positionsByLetter[slot] : 0, next);
+        return hit ? GuessResult.REVEALED : GuessResult.MISS;
+    }
+    
+    private void publish(String playerId, char letter, long positions, long s) {
+        if (!publisher.hasSubscribers()) return;
+        RoomDiff diff = new RoomDiff(Long.bitCount(s & TRIED_MASK), playerId, letter, positions,
+                errors(s), isWon(s), isLost(s));
+        publisher.offer(diff, (subscriber, d) -> {
+            dropped.increment();
+            return false;
+        });
+    }
+    
+    /**
+     * Suscribe un receptor a los diffs futuros de la sala. Para obtener el
+     * estado inicial, llamar a join() o getMaskedWord() después de suscribirse.
+     */
+    public void subscribe(Flow.Subscriber<? super RoomDiff> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+    
+    private static int errors(long s) {
+        return (int) (s >>> ERRORS_SHIFT);
+    }
+    
+    private boolean isWon(long s) {
+        return (s & wordLetters) == wordLetters;
+    }
+    
+    private boolean isLost(long s) {
+        return errors(s) >= maxAttempts;
+    }
+    
+    private boolean isFinished(long s) {
+        return isWon(s) || isLost(s);
+    }
+    
+    // ---- Consultas (leen un único snapshot del estado) ----
+    
+    public String getMaskedWord() {
+        long s = state.get();
+        String w = word.getWord();
+        char[] masked = new char[w.length()];
+        for (int i = 0; i < masked.length; i++) {
+            char c = w.charAt(i);
+            masked[i] = (c == ' ' || (s & (1L << slot(c))) != 0) ? c : '_';
+        }
+        return new String(masked);
+    }
+    
+    public String getId() { return id; }
+    public WordEntry getWord() { return word; }
+    public Set<String> getPlayers() { return Set.copyOf(players); }
+    public int getErrors() { return errors(state.get()); }
+    public int getAttemptsLeft() { return maxAttempts - getErrors(); }
+    public boolean isWon() { return isWon(state.get()); }
+    public boolean isLost() { return isLost(state.get()); }
+    public boolean isFinished() { return isFinished(state.get()); }
+    
+    /** Diffs descartados porque algún suscriptor tenía el buffer lleno. */
+    public long getDroppedCount() { return dropped.sum(); }
+    
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
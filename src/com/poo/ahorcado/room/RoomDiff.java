@@ -0,0 +1,50 @@
+package com.poo.ahorcado.room;
+
+/**
+ * Cambio compacto del estado de una sala, enviado a los suscriptores tras
+ * cada letra aceptada.
+ * 
+ * Los diffs son conmutativos: {@code positions} se combina con OR y
+ * {@code errors}/{@code sequence} con máximo, así que un suscriptor puede
+ * aplicarlos en cualquier orden y llega al mismo estado.
+ */
+public final class RoomDiff {
+    
+    private final int sequence;
+    private final String playerId;
+    private final char letter;
+    private final long positions;
+    private final int errors;
+    private final boolean won;
+    private final boolean lost;
+    
+    RoomDiff(int sequence, String playerId, char letter, long positions, int errors, boolean won, boolean lost) {
+        this.sequence = sequence;
+        this.playerId = playerId;
+        this.letter = letter;
+        this.positions = positions;
+        this.errors = errors;
+        this.won = won;
+        this.lost = lost;
+    }
+    
+    /** Número de letras intentadas en la sala después de este cambio (1, 2, 3...). */
+    public int getSequence() { return sequence; }
+    
+    /** Jugador que intentó la letra. */
+    public String getPlayerId() { return playerId; }
+    
+    public char getLetter() { return letter; }
+    
+    /** Bit i encendido si la letra aparece en la posición i (0 si fue un fallo). */
+    public long getPositions() { return positions; }
+    
+    public boolean isMiss() { return positions == 0; }
+    
+    /** Errores acumulados de la sala después de este cambio. */
+    public int getErrors() { return errors; }
+    
+    public boolean isWon() { return won; }
+    
+    public boolean isLost() { return lost; }
+}
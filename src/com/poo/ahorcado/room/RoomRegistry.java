@@ -0,0 +1,46 @@
+package com.poo.ahorcado.room;
+
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.Category;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Salas abiertas, por identificador. Varias peticiones concurrentes para
+ * abrir la misma sala obtienen la misma instancia (y la misma palabra).
+ */
+public class RoomRegistry {
+    
+    private final WordBank bank;
+    private final ConcurrentHashMap<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    
+    public RoomRegistry(WordBank bank) {
+        this.bank = bank;
+    }
+    
+    /**
+     * Retorna la sala con ese id, creándola con una palabra nueva si no existe.
+     */
+    public GameRoom open(String id, GameConfig config, Optional<Category> category) {
+        return rooms.computeIfAbsent(id, k -> new GameRoom(k,
+                category.isPresent() ? bank.randomByCategory(category.get()) : bank.randomAny(), config));
+    }
+    
+    public Optional<GameRoom> get(String id) {
+        return Optional.ofNullable(rooms.get(id));
+    }
+    
+    /**
+     * Cierra la sala y la quita del registro (los suscriptores reciben onComplete).
+     */
+    public void close(String id) {
+        GameRoom room = rooms.remove(id);
+        if (room != null) room.close();
+    }
+    
+    public int size() {
+        return rooms.size();
+    }
+}
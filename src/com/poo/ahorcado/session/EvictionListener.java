@@ -0,0 +1,15 @@
+package com.poo.ahorcado.session;
+
+import java.util.List;
+
+/**
+ * Recibe las sesiones que expiraron por inactividad, por lotes (una llamada
+ * por pasada del reaper), para guardarlas o registrarlas. Se invoca en el
+ * hilo del reaper, fuera de los locks del registro; las sesiones ya están
+ * cerradas y fuera del registro.
+ */
+@FunctionalInterface
+public interface EvictionListener {
+
+    void evicted(List<GameSession> sessions);
+}
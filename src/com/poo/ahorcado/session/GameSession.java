@@ -0,0 +1,87 @@
+package com.poo.ahorcado.session;
+
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.GuessBatch;
+import com.poo.ahorcado.logic.GuessResult;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Partida de un jugador remoto registrada en SessionRegistry.
+ *
+ * Cada jugada marca la sesión como activa ({@link #touch()}), lo que solo
+ * escribe un campo volatile: la rueda de tiempo no se toca en cada jugada,
+ * sino que al vencer el plazo la sesión se reprograma si hubo actividad.
+ * Las jugadas se serializan por sesión (Game no es thread-safe).
+ */
+public final class GameSession {
+
+    private final String id;
+    private final String playerId;
+    private final Game game;
+    private final LongSupplier clock;
+    private final long openedAt;
+    private volatile long lastAccess;
+    private volatile boolean closed;
+
+    final TimingWheel.Node node = new TimingWheel.Node(this);
+
+    GameSession(String id, String playerId, Game game, LongSupplier clock) {
+        this.id = id;
+        this.playerId = playerId;
+        this.game = game;
+        this.clock = clock;
+        this.openedAt = clock.getAsLong();
+        this.lastAccess = openedAt;
+    }
+
+    /**
+     * Marca la sesión como activa. O(1), sin locks.
+     */
+    public void touch() {
+        lastAccess = clock.getAsLong();
+    }
+
+    public synchronized GuessResult play(char letter) {
+        checkOpen();
+        touch();
+        return game.play(letter);
+    }
+
+    public synchronized GuessBatch playAll(CharSequence letters, GuessBatch out) {
+        checkOpen();
+        touch();
+        return game.playAll(letters, out);
+    }
+
+    public synchronized GuessResult guessWord(CharSequence word) {
+        checkOpen();
+        touch();
+        return game.guessWord(word);
+    }
+
+    /**
+     * Estado actual de la partida, para guardarlo o registrarlo.
+     */
+    public synchronized SessionSnapshot snapshot() {
+        return new SessionSnapshot(this, clock.getAsLong());
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("La sesión " + id + " expiró o fue cerrada");
+        }
+    }
+
+    void markClosed() {
+        closed = true;
+    }
+
+    public String getId() { return id; }
+    public String getPlayerId() { return playerId; }
+    /** La partida; quien la use directamente debe llamar a touch() y sincronizar sobre la sesión. */
+    public Game getGame() { return game; }
+    public long getOpenedAt() { return openedAt; }
+    public long getLastAccess() { return lastAccess; }
+    public boolean isClosed() { return closed; }
+}
@@ -0,0 +1,47 @@
+package com.poo.ahorcado.session;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * EvictionListener que agrega una línea JSON (SessionSnapshot) por sesión
+ * expirada al final de un archivo. Escribe cada lote de una vez.
+ */
+public class SessionJournal implements EvictionListener, AutoCloseable {
+
+    private final Gson gson = new Gson();
+    private final BufferedWriter out;
+
+    public SessionJournal(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void evicted(List<GameSession> sessions) {
+        try {
+            for (GameSession session : sessions) {
+                out.write(gson.toJson(session.snapshot()));
+                out.newLine();
+            }
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Advertencia: no se pudieron registrar " + sessions.size()
+                             + " sesión(es) expirada(s): " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
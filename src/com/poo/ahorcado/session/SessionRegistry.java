@@ -0,0 +1,191 @@
+package com.poo.ahorcado.session;
+
+import com.poo.ahorcado.logic.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sesiones de juego de jugadores remotos, con expiración por inactividad.
+ *
+ * Cada sesión está en una rueda de tiempo jerárquica (TimingWheel) según su
+ * plazo. Las jugadas solo actualizan la hora del último acceso (O(1), sin
+ * locks). Un hilo "session-reaper" avanza la rueda cada tick: las sesiones
+ * cuyo plazo venció se expiran si no hubo actividad, o se reprograman según
+ * su último acceso si la hubo. Las expiradas se entregan por lotes al
+ * EvictionListener (p. ej. SessionJournal).
+ *
+ * Una sesión expira entre idleTimeoutMs y idleTimeoutMs + tickMs después de
+ * su último acceso.
+ */
+public class SessionRegistry implements AutoCloseable {
+
+    private static final int WHEEL_LEVELS = 4;      // 64^4 ticks sin volver a repartir
+
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final TimingWheel wheel;                 // protegida por wheelLock
+    private final Object wheelLock = new Object();
+    private final long idleTimeoutMs;
+    private final long tickMs;
+    private final LongSupplier clock;
+    private final EvictionListener listener;
+    private final ScheduledExecutorService reaper;
+    private final AtomicLong nextId = new AtomicLong();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Registro con reaper propio y reloj del sistema.
+     *
+     * @param idleTimeoutMs inactividad tras la cual la sesión expira
+     * @param tickMs        resolución de la rueda (y cada cuánto corre el reaper)
+     * @param listener      recibe las sesiones expiradas; puede ser null
+     */
+    public SessionRegistry(long idleTimeoutMs, long tickMs, EvictionListener listener) {
+        this(idleTimeoutMs, tickMs, listener, () -> System.nanoTime() / 1_000_000, true);
+    }
+
+    /**
+     * Registro sin hilo propio, con el reloj indicado (en ms): las sesiones
+     * solo expiran al llamar a {@link #expire()}. Útil para simulaciones y pruebas.
+     */
+    public SessionRegistry(long idleTimeoutMs, long tickMs, EvictionListener listener, LongSupplier clockMs) {
+        this(idleTimeoutMs, tickMs, listener, clockMs, false);
+    }
+
+    private SessionRegistry(long idleTimeoutMs, long tickMs, EvictionListener listener,
+                            LongSupplier clock, boolean startReaper) {
+        if (idleTimeoutMs <= 0 || tickMs <= 0) {
+            throw new IllegalArgumentException("idleTimeoutMs y tickMs deben ser mayores que 0");
+        }
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.tickMs = tickMs;
+        this.clock = clock;
+        this.listener = listener;
+        this.wheel = new TimingWheel(WHEEL_LEVELS, clock.getAsLong() / tickMs);
+        if (startReaper) {
+            this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "session-reaper");
+                t.setDaemon(true);
+                return t;
+            });
+            reaper.scheduleWithFixedDelay(this::expireQuietly, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.reaper = null;
+        }
+    }
+
+    /**
+     * Registra una partida ya iniciada para el jugador y retorna su sesión.
+     */
+    public GameSession open(String playerId, Game game) {
+        return open(playerId + "-" + nextId.incrementAndGet(), playerId, game);
+    }
+
+    /**
+     * Registra la partida con un id elegido por quien llama (p. ej. un router
+     * que reparte sesiones entre servidores).
+     *
+     * @throws IllegalArgumentException si ya hay una sesión abierta con ese id
+     */
+    public GameSession open(String id, String playerId, Game game) {
+        GameSession session = new GameSession(id, playerId, game, clock);
+        if (sessions.putIfAbsent(id, session) != null) {
+            throw new IllegalArgumentException("Ya existe la sesión " + id);
+        }
+        synchronized (wheelLock) {
+            wheel.schedule(session.node, deadlineTick(session.getLastAccess()));
+        }
+        return session;
+    }
+
+    /**
+     * Sesión abierta con ese id; la marca como activa.
+     */
+    public Optional<GameSession> get(String id) {
+        GameSession session = sessions.get(id);
+        if (session != null) session.touch();
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Cierra la sesión sin pasar por el listener (p. ej. la partida terminó).
+     */
+    public boolean close(String id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) return false;
+        session.markClosed();
+        synchronized (wheelLock) {
+            wheel.remove(session.node);
+        }
+        return true;
+    }
+
+    /**
+     * Avanza la rueda hasta ahora y expira las sesiones inactivas.
+     *
+     * @return cuántas sesiones expiraron en esta pasada
+     */
+    public int expire() {
+        long now = clock.getAsLong();
+        List<GameSession> expired = new ArrayList<>();
+        synchronized (wheelLock) {
+            List<TimingWheel.Node> due = new ArrayList<>();
+            wheel.advance(now / tickMs, due);
+            for (TimingWheel.Node node : due) {
+                GameSession session = node.session;
+                long lastAccess = session.getLastAccess();
+                if (now - lastAccess < idleTimeoutMs) {
+                    wheel.schedule(node, deadlineTick(lastAccess));   // hubo actividad
+                } else if (sessions.remove(session.getId(), session)) {
+                    session.markClosed();
+                    expired.add(session);
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            evicted.add(expired.size());
+            if (listener != null) listener.evicted(expired);
+        }
+        return expired.size();
+    }
+
+    private void expireQuietly() {
+        try {
+            expire();
+        } catch (RuntimeException e) {
+            System.err.println("Advertencia: error al expirar sesiones: " + e.getMessage());
+        }
+    }
+
+    // primer tick en que la sesión puede haber estado inactiva el tiempo completo
+    private long deadlineTick(long lastAccess) {
+        return Math.floorDiv(lastAccess + idleTimeoutMs + tickMs - 1, tickMs);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /** Total de sesiones expiradas por inactividad. */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Detiene el reaper. Las sesiones abiertas no se expiran ni se entregan al listener.
+     */
+    @Override
+    public void close() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.poo.ahorcado.session;
+
+import com.poo.ahorcado.logic.Game;
+
+/**
+ * Foto del estado de una sesión (p. ej. al expirar), serializable con Gson.
+ */
+public final class SessionSnapshot {
+
+    private final String sessionId;
+    private final String playerId;
+    private final String word;
+    private final String category;
+    private final String difficulty;
+    private final String masked;
+    private final int errors;
+    private final int hintsUsed;
+    private final boolean finished;
+    private final boolean won;
+    private final long openedAt;
+    private final long idleMs;
+
+    SessionSnapshot(GameSession session, long now) {
+        Game game = session.getGame();
+        this.sessionId = session.getId();
+        this.playerId = session.getPlayerId();
+        this.word = game.getCurrent() != null ? game.getCurrent().getWord() : null;
+        this.category = game.getCurrent() != null ? game.getCurrent().getCategory().getName() : null;
+        this.difficulty = game.getConfig().getDifficulty().name();
+        this.masked = game.getCurrent() != null ? game.getMaskedWord() : null;
+        this.errors = game.getErrors();
+        this.hintsUsed = game.getHintsUsed();
+        this.finished = game.getCurrent() != null && game.isFinished();
+        this.won = game.isWon();
+        this.openedAt = session.getOpenedAt();
+        this.idleMs = now - session.getLastAccess();
+    }
+
+    public String getSessionId() { return sessionId; }
+    public String getPlayerId() { return playerId; }
+    public String getWord() { return word; }
+    public String getCategory() { return category; }
+    public String getDifficulty() { return difficulty; }
+    public String getMasked() { return masked; }
+    public int getErrors() { return errors; }
+    public int getHintsUsed() { return hintsUsed; }
+    public boolean isFinished() { return finished; }
+    public boolean isWon() { return won; }
+    public long getOpenedAt() { return openedAt; }
+    public long getIdleMs() { return idleMs; }
+}
@@ -0,0 +1,140 @@
+package com.poo.ahorcado.session;
+
+import java.util.List;
+
+/**
+ * Rueda de tiempo jerárquica para los vencimientos de las sesiones.
+ *
+ * Cada nivel tiene 64 casilleros; un casillero del nivel 0 dura un tick, uno
+ * del nivel 1 dura 64 ticks, uno del nivel 2, 4096, etc. Programar o quitar un
+ * nodo es O(1). Al avanzar, cuando un nivel da la vuelta se reparten hacia
+ * abajo los nodos del casillero correspondiente del nivel superior, y los del
+ * casillero actual del nivel 0 vencen todos juntos.
+ *
+ * No es thread-safe: SessionRegistry la usa bajo su propio lock.
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    /**
+     * Nodo intrusivo de una lista doble circular; cada casillero tiene un
+     * centinela (session == null).
+     */
+    static final class Node {
+        final GameSession session;
+        Node prev;
+        Node next;
+        long deadline;      // en ticks
+
+        Node(GameSession session) {
+            this.session = session;
+        }
+
+        boolean isLinked() {
+            return next != null;
+        }
+    }
+
+    private final Node[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param levels    niveles de la rueda; el alcance sin volver a repartir es 64^levels ticks
+     * @param startTick tick inicial
+     */
+    TimingWheel(int levels, long startTick) {
+        this.slots = new Node[levels][SLOTS];
+        for (Node[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Node sentinel = new Node(null);
+                sentinel.prev = sentinel.next = sentinel;
+                level[i] = sentinel;
+            }
+        }
+        this.currentTick = startTick;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Programa el nodo para que venza en el tick indicado (como mínimo, el siguiente).
+     * Si el plazo excede el alcance de la rueda, el nodo se vuelve a repartir
+     * cuando el nivel superior pasa por su casillero.
+     */
+    void schedule(Node node, long deadline) {
+        if (node.isLinked()) unlink(node);
+        node.deadline = Math.max(deadline, currentTick + 1);
+        long delta = node.deadline - currentTick;
+        int level = 0;
+        while (level < slots.length - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((node.deadline >>> (SLOT_BITS * level)) & MASK);
+        Node head = slots[level][slot];
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+        size++;
+    }
+
+    /**
+     * Quita el nodo de la rueda si estaba programado.
+     */
+    void remove(Node node) {
+        if (node.isLinked()) unlink(node);
+    }
+
+    /**
+     * Avanza hasta el tick indicado y agrega a {@code expired} los nodos vencidos
+     * (ya quitados de la rueda).
+     */
+    void advance(long tick, List<Node> expired) {
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            // Repartir hacia abajo los niveles que dan la vuelta en este tick
+            for (int level = 1; level < slots.length; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+                drain(slots[level][(int) ((currentTick >>> (SLOT_BITS * level)) & MASK)], expired);
+            }
+            drain(slots[0][(int) (currentTick & MASK)], expired);
+        }
+    }
+
+    private void drain(Node head, List<Node> expired) {
+        Node node = head.next;
+        head.prev = head.next = head;
+        while (node != head) {
+            Node next = node.next;
+            node.prev = node.next = null;
+            size--;
+            if (node.deadline <= currentTick) {
+                expired.add(node);
+            } else {
+                schedule(node, node.deadline);
+            }
+            node = next;
+        }
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = null;
+        size--;
+    }
+}
@@ -0,0 +1,94 @@
+package com.poo.ahorcado.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Anillo de hashing consistente: asigna cada id de sesión a un nodo.
+ *
+ * Cada nodo ocupa varios puntos (nodos virtuales) en un anillo de 64 bits; una
+ * clave pertenece al primer punto igual o siguiente a su hash. Al agregar un
+ * nodo solo cambian de dueño las claves que caen en sus puntos (~1/N del total)
+ * y al quitarlo, solo las suyas. Inmutable: with()/without() devuelven otro anillo.
+ */
+public final class HashRing {
+
+    /** Puntos por nodo; más puntos reparten la carga de forma más pareja. */
+    public static final int DEFAULT_REPLICAS = 160;
+
+    private final List<String> nodes;
+    private final int replicas;
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+
+    public HashRing(Collection<String> nodes) {
+        this(nodes, DEFAULT_REPLICAS);
+    }
+
+    public HashRing(Collection<String> nodes, int replicas) {
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        this.replicas = replicas;
+        for (String node : this.nodes) {
+            for (int r = 0; r < replicas; r++) {
+                points.put(hash(node + "#" + r), node);
+            }
+        }
+    }
+
+    /**
+     * Nodo dueño de la clave.
+     *
+     * @throws IllegalStateException si el anillo no tiene nodos
+     */
+    public String owner(String key) {
+        if (points.isEmpty()) {
+            throw new IllegalStateException("No hay nodos en el anillo");
+        }
+        Map.Entry<Long, String> point = points.ceilingEntry(hash(key));
+        return point != null ? point.getValue() : points.firstEntry().getValue();
+    }
+
+    public HashRing with(String node) {
+        if (nodes.contains(node)) return this;
+        List<String> next = new ArrayList<>(nodes);
+        next.add(node);
+        return new HashRing(next, replicas);
+    }
+
+    public HashRing without(String node) {
+        List<String> next = new ArrayList<>(nodes);
+        next.remove(node);
+        return new HashRing(next, replicas);
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public boolean contains(String node) {
+        return nodes.contains(node);
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre UTF-8, con una mezcla final para repartir bien
+     * claves parecidas ("sesion-1", "sesion-2", ...).
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,65 @@
+package com.poo.ahorcado.shard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conexión a un nodo (o al router): envía una línea y espera la respuesta.
+ * Un pedido a la vez por conexión.
+ */
+public class NodeClient implements AutoCloseable {
+
+    private static final int CONNECT_TIMEOUT_MS = 2_000;
+
+    private final String address;
+    private final Socket socket;
+    private final BufferedReader in;
+    private final BufferedWriter out;
+
+    /**
+     * @param address "host:puerto"
+     */
+    public NodeClient(String address) throws IOException {
+        this.address = address;
+        int colon = address.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Dirección inválida (se espera host:puerto): " + address);
+        }
+        this.socket = new Socket();
+        socket.connect(new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1))),
+                       CONNECT_TIMEOUT_MS);
+        socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    public synchronized String send(String line) throws IOException {
+        out.write(line);
+        out.newLine();
+        out.flush();
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("El nodo " + address + " cerró la conexión");
+        }
+        return reply;
+    }
+
+    public String send(String... fields) throws IOException {
+        return send(Protocol.line(fields));
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
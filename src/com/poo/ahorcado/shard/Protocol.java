@@ -0,0 +1,46 @@
+package com.poo.ahorcado.shard;
+
+/**
+ * Protocolo de texto entre clientes, router y nodos: una línea por pedido y
+ * una por respuesta, con los campos separados por tabuladores (las palabras
+ * y las pistas pueden tener espacios).
+ *
+ * Pedidos de partida (el router los reenvía al dueño de la sesión):
+ *   OPEN jugador dificultad [categoría]    (el router agrega el id: OPEN id jugador ...)
+ *   GUESS id letra | LETTERS id letras | WORD id palabra | HINT id 1|2|3
+ *   STATE id | CLOSE id
+ * Administración de nodos: LIST, EXPORT id, IMPORT id ..., PING.
+ * Administración del router: NODES, OWNER id, ADDNODE host:puerto, REMOVENODE host:puerto.
+ *
+ * Respuestas: "OK" y campos, o "ERR" y un mensaje. El estado de una partida
+ * se envía como: palabra enmascarada, errores, intentos restantes, pistas
+ * usadas y PLAYING / WON / LOST.
+ */
+final class Protocol {
+
+    static final String SEPARATOR = "\t";
+
+    private Protocol() {
+    }
+
+    static String[] parse(String line) {
+        return line.split(SEPARATOR, -1);
+    }
+
+    static String line(String... fields) {
+        return String.join(SEPARATOR, fields);
+    }
+
+    static String ok(String... fields) {
+        return fields.length == 0 ? "OK" : "OK" + SEPARATOR + String.join(SEPARATOR, fields);
+    }
+
+    static String error(String message) {
+        // el mensaje no puede cortar la línea ni agregar campos
+        return "ERR" + SEPARATOR + String.valueOf(message).replace('\n', ' ').replace('\t', ' ');
+    }
+
+    static boolean isOk(String reply) {
+        return reply != null && (reply.equals("OK") || reply.startsWith("OK" + SEPARATOR));
+    }
+}
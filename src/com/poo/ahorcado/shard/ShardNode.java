@@ -0,0 +1,315 @@
+package com.poo.ahorcado.shard;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.GuessBatch;
+import com.poo.ahorcado.logic.GuessResult;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+import com.poo.ahorcado.session.GameSession;
+import com.poo.ahorcado.session.SessionRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor de partidas: una parte (shard) de las sesiones, con su propio
+ * WordBank y su propia tabla de sesiones (SessionRegistry, que expira las
+ * inactivas). Atiende el protocolo de {@link Protocol} en loopback, un hilo
+ * virtual por conexión.
+ *
+ * Además de la partida, cada sesión guarda la palabra y la lista de jugadas,
+ * para poder exportarla (EXPORT) e importarla en otro nodo (IMPORT), que
+ * reconstruye la partida repitiendo las jugadas. Así el router mueve sesiones
+ * entre nodos al agregar o quitar uno.
+ *
+ * Uso: java com.poo.ahorcado.shard.ShardNode puerto [inactividadMs]
+ */
+public class ShardNode implements AutoCloseable {
+
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 30 * 60_000;
+
+    private final WordBank bank;
+    private final SessionRegistry registry;
+    private final ConcurrentHashMap<String, ShardSession> sessions = new ConcurrentHashMap<>();
+    private final ServerSocket server;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Partida más lo necesario para reconstruirla en otro nodo.
+     */
+    private static final class ShardSession {
+        final GameSession session;
+        final WordEntry word;
+        final List<String> moves;       // protegido por el lock de session
+
+        ShardSession(GameSession session, WordEntry word, List<String> moves) {
+            this.session = session;
+            this.word = word;
+            this.moves = moves;
+        }
+    }
+
+    /**
+     * @param port          puerto en loopback (0 = cualquiera libre)
+     * @param idleTimeoutMs inactividad tras la cual una sesión expira
+     */
+    public ShardNode(WordBank bank, int port, long idleTimeoutMs) throws IOException {
+        this.bank = bank;
+        this.registry = new SessionRegistry(idleTimeoutMs, Math.max(10, idleTimeoutMs / 64),
+                expired -> expired.forEach(s -> sessions.remove(s.getId())));
+        this.server = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Empieza a aceptar conexiones en un hilo propio.
+     */
+    public void start() {
+        Thread acceptor = new Thread(this::acceptLoop, "shard-node-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    System.err.println("Advertencia: error al aceptar conexión: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                out.write(handle(line));
+                out.newLine();
+                out.flush();
+            }
+        } catch (IOException e) {
+            // el cliente cerró la conexión
+        }
+    }
+
+    /**
+     * Procesa un pedido y retorna la respuesta (sin salto de línea).
+     */
+    public String handle(String line) {
+        String[] f = Protocol.parse(line);
+        try {
+            switch (f[0]) {
+                case "OPEN":    return open(f);
+                case "GUESS":   return guess(f);
+                case "LETTERS": return letters(f);
+                case "WORD":    return word(f);
+                case "HINT":    return hint(f);
+                case "STATE":   return state(f);
+                case "CLOSE":   return close(f);
+                case "LIST":    return Protocol.ok(sessions.keySet().toArray(new String[0]));
+                case "EXPORT":  return export(f);
+                case "IMPORT":  return importSession(f);
+                case "PING":    return Protocol.ok(String.valueOf(sessions.size()));
+                default:        return Protocol.error("Comando desconocido: " + f[0]);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return Protocol.error("Faltan campos en " + f[0]);
+        } catch (RuntimeException e) {
+            return Protocol.error(e.getMessage());
+        }
+    }
+
+    // OPEN id jugador dificultad [categoría]
+    private String open(String[] f) {
+        Difficulty difficulty = Difficulty.valueOf(f[3].trim().toUpperCase());
+        Optional<Category> category = f.length > 4 && !f[4].isEmpty()
+                ? Optional.of(Category.fromString(f[4])) : Optional.empty();
+        WordEntry word = bank.random(category, difficulty);
+        ShardSession s = register(f[1], f[2], difficulty, word, new ArrayList<>());
+        return Protocol.ok(f[1], state(s));
+    }
+
+    // GUESS id letra
+    private String guess(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            GuessResult result = s.session.play(f[2].charAt(0));
+            s.moves.add("L" + Character.toUpperCase(f[2].charAt(0)));
+            return Protocol.ok(result.name(), state(s));
+        }
+    }
+
+    // LETTERS id letras -> resultados separados por comas
+    private String letters(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            GuessBatch batch = s.session.playAll(f[2], new GuessBatch());
+            s.moves.add("L" + f[2].toUpperCase());
+            StringBuilder results = new StringBuilder();
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) results.append(',');
+                results.append(batch.resultAt(i).name());
+            }
+            return Protocol.ok(results.toString(), state(s));
+        }
+    }
+
+    // WORD id palabra
+    private String word(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            GuessResult result = s.session.guessWord(f[2]);
+            s.moves.add("W" + f[2]);
+            return Protocol.ok(result.name(), state(s));
+        }
+    }
+
+    // HINT id 1|2|3
+    private String hint(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            if (s.session.isClosed()) throw new IllegalStateException("La sesión " + f[1] + " expiró o fue cerrada");
+            s.session.touch();
+            String message = applyHint(s.session.getGame(), f[2]);
+            s.moves.add("H" + f[2]);
+            return Protocol.ok(message, state(s));
+        }
+    }
+
+    private static String applyHint(Game game, String kind) {
+        switch (kind) {
+            case "1": return game.hintCategory();
+            case "2": return game.hintRandomLetter();
+            case "3": return game.hintText();
+            default: throw new IllegalArgumentException("Pista desconocida: " + kind);
+        }
+    }
+
+    private String state(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            s.session.touch();
+            return Protocol.ok(state(s));
+        }
+    }
+
+    private String close(String[] f) {
+        sessions.remove(f[1]);
+        return registry.close(f[1]) ? Protocol.ok() : Protocol.error("No existe la sesión " + f[1]);
+    }
+
+    // EXPORT id -> jugador dificultad categoría palabra pista peso jugada...
+    private String export(String[] f) {
+        ShardSession s = session(f[1]);
+        synchronized (s.session) {
+            List<String> fields = new ArrayList<>();
+            fields.add(s.session.getPlayerId());
+            fields.add(s.session.getGame().getConfig().getDifficulty().name());
+            fields.add(s.word.getCategory().getName());
+            fields.add(s.word.getWord());
+            fields.add(s.word.getTextHint());
+            fields.add(Double.toString(s.word.getWeight()));
+            fields.addAll(s.moves);
+            return Protocol.ok(fields.toArray(new String[0]));
+        }
+    }
+
+    // IMPORT id jugador dificultad categoría palabra pista peso jugada...
+    private String importSession(String[] f) {
+        Difficulty difficulty = Difficulty.valueOf(f[3]);
+        WordEntry word = new WordEntry(f[5], Category.fromString(f[4]), f[6], Double.parseDouble(f[7]));
+        List<String> moves = new ArrayList<>();
+        for (int i = 8; i < f.length; i++) moves.add(f[i]);
+        ShardSession s = register(f[1], f[2], difficulty, word, moves);
+        return Protocol.ok(state(s));
+    }
+
+    /**
+     * Crea la partida con la palabra indicada, repite las jugadas (si viene de
+     * otro nodo) y la registra.
+     */
+    private ShardSession register(String id, String playerId, Difficulty difficulty, WordEntry word, List<String> moves) {
+        if (sessions.containsKey(id)) {
+            throw new IllegalArgumentException("Ya existe la sesión " + id);
+        }
+        Game game = new Game(bank, new GameConfig(difficulty));
+        game.startNew(Optional.of(word.getCategory()), (c, d) -> word);
+        GuessBatch batch = new GuessBatch();
+        for (String move : moves) {
+            String arg = move.substring(1);
+            switch (move.charAt(0)) {
+                case 'L': game.playAll(arg, batch); break;
+                case 'W': game.guessWord(arg); break;
+                case 'H': applyHint(game, arg); break;
+                default: throw new IllegalArgumentException("Jugada desconocida: " + move);
+            }
+        }
+        GameSession session = registry.open(id, playerId, game);
+        ShardSession s = new ShardSession(session, word, moves);
+        sessions.put(id, s);
+        return s;
+    }
+
+    private ShardSession session(String id) {
+        ShardSession s = sessions.get(id);
+        if (s == null) throw new IllegalArgumentException("No existe la sesión " + id);
+        return s;
+    }
+
+    private static String state(ShardSession s) {
+        Game game = s.session.getGame();
+        String status = game.isWon() ? "WON" : game.isLost() ? "LOST" : "PLAYING";
+        return Protocol.line(game.getMaskedWord(), String.valueOf(game.getErrors()),
+                String.valueOf(game.getAttemptsLeft()), String.valueOf(game.getHintsUsed()), status);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        connections.shutdownNow();
+        registry.close();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Uso: ShardNode <puerto> [inactividadMs]");
+            System.exit(2);
+        }
+        long idleTimeoutMs = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_IDLE_TIMEOUT_MS;
+        ShardNode node = new ShardNode(new WordBank(), Integer.parseInt(args[0]), idleTimeoutMs);
+        node.start();
+        // quien lanza el proceso espera esta línea para saber que ya acepta conexiones
+        System.out.println("LISTO " + node.getPort());
+        System.out.flush();
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,315 @@
+package com.poo.ahorcado.shard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Router delgado: reenvía cada pedido al nodo dueño de la sesión según un
+ * anillo de hashing consistente (HashRing) sobre el id de sesión. No guarda
+ * estado de partidas; solo asigna ids nuevos en OPEN.
+ *
+ * Al agregar o quitar un nodo se mueven solo las sesiones que cambian de
+ * dueño: primero se copian todas (EXPORT en el nodo viejo, IMPORT en el
+ * nuevo), después se cambia el anillo y recién entonces se cierran las
+ * copias viejas (CLOSE). Si una copia falla se cierran las ya importadas y
+ * el anillo queda como estaba, así que ninguna sesión se pierde. Mientras
+ * se mueven, los pedidos de partida esperan (lock de escritura).
+ *
+ * Uso: java com.poo.ahorcado.shard.ShardRouter puerto host:puerto [host:puerto ...]
+ */
+public class ShardRouter implements AutoCloseable {
+
+    private volatile HashRing ring;
+    private final ReadWriteLock rebalance = new ReentrantReadWriteLock();
+    private final Map<String, ConcurrentLinkedQueue<NodeClient>> pools = new ConcurrentHashMap<>();
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile ServerSocket server;
+
+    public ShardRouter(List<String> nodes) {
+        this.ring = new HashRing(nodes);
+    }
+
+    /**
+     * Procesa un pedido de cliente y retorna la respuesta (sin salto de línea).
+     */
+    public String handle(String line) {
+        String[] f = Protocol.parse(line);
+        try {
+            switch (f[0]) {
+                case "OPEN":
+                    // el router asigna el id: de él depende el nodo
+                    String id = UUID.randomUUID().toString();
+                    String[] open = new String[f.length + 1];
+                    open[0] = "OPEN";
+                    open[1] = id;
+                    System.arraycopy(f, 1, open, 2, f.length - 1);
+                    return forward(id, Protocol.line(open));
+                case "GUESS":
+                case "LETTERS":
+                case "WORD":
+                case "HINT":
+                case "STATE":
+                case "CLOSE":
+                    return forward(f[1], line);
+                case "NODES":
+                    return Protocol.ok(ring.getNodes().toArray(new String[0]));
+                case "OWNER":
+                    return Protocol.ok(ring.owner(f[1]));
+                case "ADDNODE":
+                    return Protocol.ok(String.valueOf(addNode(f[1])));
+                case "REMOVENODE":
+                    return Protocol.ok(String.valueOf(removeNode(f[1])));
+                default:
+                    return Protocol.error("Comando desconocido: " + f[0]);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return Protocol.error("Faltan campos en " + f[0]);
+        } catch (IOException | RuntimeException e) {
+            return Protocol.error(e.getMessage());
+        }
+    }
+
+    private String forward(String sessionId, String line) throws IOException {
+        rebalance.readLock().lock();
+        try {
+            return send(ring.owner(sessionId), line);
+        } finally {
+            rebalance.readLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega el nodo al anillo y le mueve las sesiones que ahora le pertenecen.
+     *
+     * @return cuántas sesiones se movieron
+     */
+    public int addNode(String address) throws IOException {
+        rebalance.writeLock().lock();
+        try {
+            if (ring.contains(address)) return 0;
+            send(address, "PING");                // falla antes de tocar nada si no responde
+            HashRing next = ring.with(address);
+            List<Move> moves = new ArrayList<>();
+            try {
+                for (String node : ring.getNodes()) {
+                    copySessions(node, next, moves);
+                }
+            } catch (IOException | RuntimeException e) {
+                rollback(moves);
+                throw e;
+            }
+            ring = next;
+            closeOld(moves);
+            return moves.size();
+        } finally {
+            rebalance.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mueve las sesiones del nodo a sus nuevos dueños y lo quita del anillo.
+     *
+     * @return cuántas sesiones se movieron
+     */
+    public int removeNode(String address) throws IOException {
+        rebalance.writeLock().lock();
+        try {
+            if (!ring.contains(address)) return 0;
+            HashRing next = ring.without(address);
+            List<Move> moves = new ArrayList<>();
+            try {
+                copySessions(address, next, moves);
+            } catch (IOException | RuntimeException e) {
+                rollback(moves);
+                throw e;
+            }
+            ring = next;
+            closeOld(moves);
+            ConcurrentLinkedQueue<NodeClient> pool = pools.remove(address);
+            if (pool != null) {
+                for (NodeClient client : pool) closeQuietly(client);
+            }
+            return moves.size();
+        } finally {
+            rebalance.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copia del nodo indicado las sesiones cuyo dueño en {@code next} es otro
+     * y anota cada copia en {@code moves}. No cierra las originales.
+     */
+    private void copySessions(String from, HashRing next, List<Move> moves) throws IOException {
+        String[] list = reply(from, send(from, "LIST"));
+        for (int i = 1; i < list.length; i++) {
+            String id = list[i];
+            String to = next.owner(id);
+            if (to.equals(from)) continue;
+            String[] exported = Protocol.parse(send(from, Protocol.line("EXPORT", id)));
+            if (!"OK".equals(exported[0])) continue;         // expiró o se cerró mientras tanto
+            String[] importLine = new String[exported.length + 1];
+            importLine[0] = "IMPORT";
+            importLine[1] = id;
+            System.arraycopy(exported, 1, importLine, 2, exported.length - 1);
+            reply(to, send(to, Protocol.line(importLine)));
+            moves.add(new Move(id, from, to));
+        }
+    }
+
+    /**
+     * Deshace una copia fallida: cierra las sesiones ya importadas (las
+     * originales siguen en su nodo).
+     */
+    private void rollback(List<Move> moves) {
+        for (Move move : moves) {
+            try {
+                send(move.to, Protocol.line("CLOSE", move.id));
+            } catch (IOException e) {
+                System.err.println("Advertencia: no se pudo deshacer la copia de " + move.id
+                        + " en " + move.to + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cierra las copias viejas una vez cambiado el anillo. Si alguna falla ya
+     * no recibe pedidos y termina expirando en su nodo.
+     */
+    private void closeOld(List<Move> moves) {
+        for (Move move : moves) {
+            try {
+                send(move.from, Protocol.line("CLOSE", move.id));
+            } catch (IOException e) {
+                System.err.println("Advertencia: no se pudo cerrar " + move.id
+                        + " en " + move.from + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sesión copiada de un nodo a otro durante un cambio del anillo.
+     */
+    private static final class Move {
+        final String id;
+        final String from;
+        final String to;
+
+        Move(String id, String from, String to) {
+            this.id = id;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static String[] reply(String node, String reply) throws IOException {
+        if (!Protocol.isOk(reply)) {
+            throw new IOException("El nodo " + node + " respondió: " + reply);
+        }
+        return Protocol.parse(reply);
+    }
+
+    /**
+     * Envía usando una conexión del pool del nodo (se crea si no hay libres).
+     * Si la conexión falla se descarta.
+     */
+    private String send(String node, String line) throws IOException {
+        ConcurrentLinkedQueue<NodeClient> pool = pools.computeIfAbsent(node, k -> new ConcurrentLinkedQueue<>());
+        NodeClient client = pool.poll();
+        if (client == null) client = new NodeClient(node);
+        try {
+            String reply = client.send(line);
+            pool.offer(client);
+            return reply;
+        } catch (IOException e) {
+            closeQuietly(client);
+            throw e;
+        }
+    }
+
+    /**
+     * Atiende clientes en loopback (una línea por pedido), un hilo virtual por conexión.
+     */
+    public void serve(int port) throws IOException {
+        server = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.execute(() -> serveClient(socket));
+                } catch (IOException e) {
+                    if (!server.isClosed()) {
+                        System.err.println("Advertencia: error al aceptar conexión: " + e.getMessage());
+                    }
+                }
+            }
+        }, "shard-router");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return server != null ? server.getLocalPort() : -1;
+    }
+
+    private void serveClient(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                out.write(handle(line));
+                out.newLine();
+                out.flush();
+            }
+        } catch (IOException e) {
+            // el cliente cerró la conexión
+        }
+    }
+
+    private static void closeQuietly(NodeClient client) {
+        try {
+            client.close();
+        } catch (IOException e) {
+            // ya estaba cerrada
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) server.close();
+        connections.shutdownNow();
+        for (ConcurrentLinkedQueue<NodeClient> pool : pools.values()) {
+            for (NodeClient client : pool) closeQuietly(client);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Uso: ShardRouter <puerto> <host:puerto> [host:puerto ...]");
+            System.exit(2);
+        }
+        ShardRouter router = new ShardRouter(Arrays.asList(args).subList(1, args.length));
+        router.serve(Integer.parseInt(args[0]));
+        System.out.println("LISTO " + router.getPort());
+        System.out.flush();
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,53 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.logic.Game;
+
+/**
+ * Resultado de una partida terminada, listo para ingresar a las estadísticas.
+ */
+public final class GameResult {
+    
+    private final String playerId;
+    private final Difficulty difficulty;
+    private final boolean won;
+    private final int errors;
+    private final int hintsUsed;
+    private final long durationMillis;
+    
+    public GameResult(String playerId, Difficulty difficulty, boolean won,
+                      int errors, int hintsUsed, long durationMillis) {
+        this.playerId = playerId;
+        this.difficulty = difficulty;
+        this.won = won;
+        this.errors = errors;
+        this.hintsUsed = hintsUsed;
+        this.durationMillis = durationMillis;
+    }
+    
+    /**
+     * Crea el resultado a partir de una partida terminada.
+     */
+    public static GameResult fromGame(String playerId, Game game, long durationMillis) {
+        return new GameResult(
+            playerId,
+            game.getConfig().getDifficulty(),
+            game.isWon(),
+            game.getErrors(),
+            game.getHintsUsed(),
+            durationMillis
+        );
+    }
+    
+    public String getPlayerId() { return playerId; }
+    
+    public Difficulty getDifficulty() { return difficulty; }
+    
+    public boolean isWon() { return won; }
+    
+    public int getErrors() { return errors; }
+    
+    public int getHintsUsed() { return hintsUsed; }
+    
+    public long getDurationMillis() { return durationMillis; }
+}
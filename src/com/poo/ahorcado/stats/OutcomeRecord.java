@@ -0,0 +1,47 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+
+/**
+ * Un registro leído de un OutcomeRing. OutcomeRingReader reutiliza la misma
+ * instancia para cada registro, así que hay que copiar lo que se quiera
+ * guardar.
+ */
+public final class OutcomeRecord {
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    long sequence;
+    int wordId;
+    int difficulty;
+    int errors;
+    int hintsUsed;
+    boolean won;
+    long durationMillis;
+    long finishedAt;
+
+    /** Posición del registro en el archivo (0 = el primero que se escribió). */
+    public long getSequence() { return sequence; }
+
+    /** Ver OutcomeRing.wordId. */
+    public int getWordId() { return wordId; }
+
+    /**
+     * Dificultad de la partida, o null si el archivo la escribió una versión
+     * con otras dificultades.
+     */
+    public Difficulty getDifficulty() {
+        return difficulty < DIFFICULTIES.length ? DIFFICULTIES[difficulty] : null;
+    }
+
+    public int getErrors() { return errors; }
+
+    public int getHintsUsed() { return hintsUsed; }
+
+    public boolean isWon() { return won; }
+
+    public long getDurationMillis() { return durationMillis; }
+
+    /** Hora de fin (milisegundos desde la época). */
+    public long getFinishedAt() { return finishedAt; }
+}
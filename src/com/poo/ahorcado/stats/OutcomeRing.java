@@ -0,0 +1,197 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Registro de partidas terminadas en un archivo de tamaño fijo mapeado en
+ * memoria, usado como buffer circular. Si el proceso muere, lo ya escrito
+ * sigue en el archivo (las páginas mapeadas son del sistema operativo) y
+ * OutcomeRingReader lo puede leer, en vivo o después.
+ *
+ * Escribir no usa locks ni llamadas al sistema: cada escritor toma una
+ * posición con un getAndAdd sobre el cursor del encabezado y llena su
+ * ranura. Cada ranura empieza con su número de secuencia + 1, que se anula
+ * antes de escribir los campos y se publica (release) al final; el lector
+ * lo compara antes y después de leer, así que nunca acepta un registro a
+ * medio escribir ni uno pisado por una vuelta posterior. Cuando el cursor
+ * da la vuelta se pisan los registros más viejos.
+ *
+ * Formato (little-endian): encabezado de 128 bytes (magic, versión, tamaño
+ * de registro, capacidad y, en su propia línea de caché, el cursor), luego
+ * {@code capacidad} registros de 32 bytes:
+ * secuencia+1 (long), id de palabra (int), dificultad, errores, pistas,
+ * ganada (un byte cada uno), duración en ms (long) y hora de fin (long).
+ */
+public final class OutcomeRing implements AutoCloseable {
+
+    static final int MAGIC = 0x41485247;        // "AHRG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 128;
+    static final int RECORD_BYTES = 32;
+    static final long CURSOR = 64;
+    /** El archivo entero tiene que caber en un ByteBuffer. */
+    static final int MAX_CAPACITY = 1 << 25;
+
+    // offsets dentro del registro
+    static final int SEQ = 0;
+    static final int WORD = 8;
+    static final int DIFFICULTY = 12;
+    static final int ERRORS = 13;
+    static final int HINTS = 14;
+    static final int WON = 15;
+    static final int DURATION = 16;
+    static final int FINISHED_AT = 24;
+
+    static final ValueLayout.OfInt I4 = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong I8 = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /** Accesos atómicos a longs alineados del archivo (cursor y secuencias). */
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path file;
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final ByteBuffer buffer;          // misma memoria, para los accesos atómicos
+    private final long mask;
+
+    private OutcomeRing(Path file, Arena arena, MemorySegment segment, int capacity) {
+        this.file = file;
+        this.arena = arena;
+        this.segment = segment;
+        this.buffer = segment.asByteBuffer();
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Abre el archivo para escribir, creándolo con la capacidad indicada si no
+     * existe. Si ya existe se sigue escribiendo después de lo que tenía (por
+     * ejemplo, tras una caída), con la capacidad del archivo.
+     *
+     * @param capacity cantidad de registros; se redondea a potencia de 2
+     */
+    public static OutcomeRing open(Path file, int capacity) throws IOException {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        int slots = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean fresh = channel.size() == 0;
+            long size = fresh ? HEADER_BYTES + (long) slots * RECORD_BYTES : channel.size();
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            if (fresh) {
+                segment.set(I4, 0, MAGIC);
+                segment.set(I4, 4, VERSION);
+                segment.set(I4, 8, RECORD_BYTES);
+                segment.set(I4, 12, slots);
+            } else {
+                slots = checkHeader(segment, file);
+            }
+            return new OutcomeRing(file, arena, segment, slots);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Valida el encabezado y retorna la capacidad.
+     */
+    static int checkHeader(MemorySegment segment, Path file) throws IOException {
+        if (segment.byteSize() < HEADER_BYTES || segment.get(I4, 0) != MAGIC
+                || segment.get(I4, 4) != VERSION || segment.get(I4, 8) != RECORD_BYTES) {
+            throw new IOException("Formato de registro de partidas no reconocido: " + file);
+        }
+        int capacity = segment.get(I4, 12);
+        if (Integer.bitCount(capacity) != 1 || capacity > MAX_CAPACITY
+                || segment.byteSize() < HEADER_BYTES + (long) capacity * RECORD_BYTES) {
+            throw new IOException("Registro de partidas truncado: " + file);
+        }
+        return capacity;
+    }
+
+    /**
+     * Registra una partida terminada. Seguro desde muchos hilos y procesos.
+     */
+    public void record(int wordId, Difficulty difficulty, boolean won, int errors, int hintsUsed,
+                       long durationMillis) {
+        long seq = (long) LONGS.getAndAdd(buffer, (int) CURSOR, 1L);
+        int off = offset(seq);
+        LONGS.setOpaque(buffer, off + SEQ, 0L);         // ranura en escritura
+        VarHandle.storeStoreFence();
+        segment.set(I4, off + WORD, wordId);
+        segment.set(ValueLayout.JAVA_BYTE, off + DIFFICULTY, (byte) difficulty.ordinal());
+        segment.set(ValueLayout.JAVA_BYTE, off + ERRORS, (byte) Math.min(errors, 255));
+        segment.set(ValueLayout.JAVA_BYTE, off + HINTS, (byte) Math.min(hintsUsed, 255));
+        segment.set(ValueLayout.JAVA_BYTE, off + WON, (byte) (won ? 1 : 0));
+        segment.set(I8, off + DURATION, durationMillis);
+        segment.set(I8, off + FINISHED_AT, System.currentTimeMillis());
+        LONGS.setRelease(buffer, off + SEQ, seq + 1);
+    }
+
+    /**
+     * Registra el resultado de la partida jugada con la palabra indicada.
+     */
+    public void record(GameResult result, String word) {
+        record(wordId(word), result.getDifficulty(), result.isWon(), result.getErrors(),
+               result.getHintsUsed(), result.getDurationMillis());
+    }
+
+    private int offset(long seq) {
+        return HEADER_BYTES + (int) (seq & mask) * RECORD_BYTES;
+    }
+
+    /**
+     * Id estable de una palabra (FNV-1a de 32 bits sobre sus caracteres):
+     * no depende del orden del banco, así que sirve entre ejecuciones.
+     */
+    public static int wordId(CharSequence word) {
+        int h = 0x811c9dc5;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= word.charAt(i);
+            h *= 0x01000193;
+        }
+        return h;
+    }
+
+    /**
+     * Registros escritos desde que se creó el archivo (incluye los pisados).
+     */
+    public long getCursor() {
+        return (long) LONGS.getAcquire(buffer, (int) CURSOR);
+    }
+
+    public int getCapacity() {
+        return (int) mask + 1;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Fuerza la escritura a disco. No hace falta si solo puede caerse el
+     * proceso; sí si puede caerse la máquina.
+     */
+    public void flush() {
+        segment.force();
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,282 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.logic.PatternIndex;
+import com.poo.ahorcado.logic.WordBank;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.poo.ahorcado.stats.OutcomeRing.*;
+
+/**
+ * Lector de un OutcomeRing, desde otro proceso y sin coordinarse con los
+ * escritores: sirve para seguir el archivo en vivo o para leerlo después de
+ * una caída. Solo mapea el archivo para lectura.
+ *
+ * Uso: java com.poo.ahorcado.stats.OutcomeRingReader archivo [--seguir] [--palabras]
+ * (--seguir muestra cada segundo lo nuevo; --palabras carga el banco para
+ * mostrar las palabras en lugar de sus ids).
+ */
+public final class OutcomeRingReader implements AutoCloseable {
+
+    /** Tiempo que se espera a una ranura a medio escribir antes de darla por perdida. */
+    private static final long PENDING_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final ByteBuffer buffer;
+    private final long mask;
+
+    private long position;
+    private long skipped;
+    private long pendingSince;
+
+    private OutcomeRingReader(Arena arena, MemorySegment segment, int capacity) {
+        this.arena = arena;
+        this.segment = segment;
+        this.buffer = segment.asByteBuffer();
+        this.mask = capacity - 1;
+    }
+
+    public static OutcomeRingReader open(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            int capacity = checkHeader(segment, file);
+            OutcomeRingReader reader = new OutcomeRingReader(arena, segment, capacity);
+            reader.position = reader.getOldest();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public long getCursor() {
+        return (long) LONGS.getAcquire(buffer, (int) CURSOR);
+    }
+
+    public int getCapacity() {
+        return (int) mask + 1;
+    }
+
+    /**
+     * Secuencia del registro más viejo que todavía está en el archivo.
+     */
+    public long getOldest() {
+        return Math.max(0, getCursor() - getCapacity());
+    }
+
+    /**
+     * Siguiente secuencia que leerá poll.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Registros que poll no pudo leer: pisados por los escritores antes de
+     * leerlos, o que quedaron a medio escribir (el escritor murió).
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Lee el registro {@code seq} en {@code out}.
+     *
+     * @return false si no está completo o ya fue pisado por otro
+     */
+    public boolean read(long seq, OutcomeRecord out) {
+        int off = HEADER_BYTES + (int) (seq & mask) * RECORD_BYTES;
+        long before = (long) LONGS.getAcquire(buffer, off + SEQ);
+        if (before != seq + 1) return false;
+        out.sequence = seq;
+        out.wordId = segment.get(I4, off + WORD);
+        out.difficulty = segment.get(ValueLayout.JAVA_BYTE, off + DIFFICULTY) & 0xff;
+        out.errors = segment.get(ValueLayout.JAVA_BYTE, off + ERRORS) & 0xff;
+        out.hintsUsed = segment.get(ValueLayout.JAVA_BYTE, off + HINTS) & 0xff;
+        out.won = segment.get(ValueLayout.JAVA_BYTE, off + WON) != 0;
+        out.durationMillis = segment.get(I8, off + DURATION);
+        out.finishedAt = segment.get(I8, off + FINISHED_AT);
+        VarHandle.loadLoadFence();
+        // si cambió, un escritor de la vuelta siguiente la pisó mientras leíamos
+        return (long) LONGS.getAcquire(buffer, off + SEQ) == before;
+    }
+
+    /**
+     * Entrega los registros nuevos desde la última llamada, en orden. Si los
+     * escritores dieron la vuelta se saltea lo pisado. Se detiene en una
+     * ranura todavía en escritura y la reintenta en la próxima llamada; si
+     * sigue así pasado un segundo (o si {@code skipPending}) la saltea.
+     *
+     * @return cuántos registros entregó
+     */
+    public int poll(Consumer<OutcomeRecord> consumer, OutcomeRecord out, boolean skipPending) {
+        long cursor = getCursor();
+        long oldest = Math.max(0, cursor - getCapacity());
+        if (position < oldest) {
+            skipped += oldest - position;
+            position = oldest;
+        }
+        int delivered = 0;
+        while (position < cursor) {
+            if (read(position, out)) {
+                consumer.accept(out);
+                delivered++;
+                pendingSince = 0;
+            } else if (getCursor() - position > getCapacity()) {
+                skipped++;                       // ya la pisó la vuelta siguiente
+            } else if (skipPending || pendingTooLong()) {
+                skipped++;
+                pendingSince = 0;
+            } else {
+                break;
+            }
+            position++;
+        }
+        return delivered;
+    }
+
+    private boolean pendingTooLong() {
+        long now = System.nanoTime();
+        if (pendingSince == 0) {
+            pendingSince = now;
+            return false;
+        }
+        return now - pendingSince > PENDING_TIMEOUT_NANOS;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Totales por dificultad y por palabra de los registros que recibe.
+     */
+    public static final class Summary implements Consumer<OutcomeRecord> {
+
+        private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+        private final long[] games = new long[DIFFICULTIES.length];
+        private final long[] wins = new long[DIFFICULTIES.length];
+        private final long[] errors = new long[DIFFICULTIES.length];
+        private final long[] hints = new long[DIFFICULTIES.length];
+        private final long[] duration = new long[DIFFICULTIES.length];
+        private final Map<Integer, long[]> words = new HashMap<>();      // id -> partidas, ganadas
+
+        @Override
+        public void accept(OutcomeRecord r) {
+            int d = r.difficulty;
+            if (d >= DIFFICULTIES.length) return;
+            games[d]++;
+            if (r.won) wins[d]++;
+            errors[d] += r.errors;
+            hints[d] += r.hintsUsed;
+            duration[d] += r.durationMillis;
+            long[] w = words.computeIfAbsent(r.wordId, k -> new long[2]);
+            w[0]++;
+            if (r.won) w[1]++;
+        }
+
+        public long getGames() {
+            long total = 0;
+            for (long g : games) total += g;
+            return total;
+        }
+
+        public long getGames(Difficulty difficulty) { return games[difficulty.ordinal()]; }
+
+        public long getWins(Difficulty difficulty) { return wins[difficulty.ordinal()]; }
+
+        public long getErrors(Difficulty difficulty) { return errors[difficulty.ordinal()]; }
+
+        public long getHints(Difficulty difficulty) { return hints[difficulty.ordinal()]; }
+
+        /**
+         * Ids de las {@code n} palabras más jugadas.
+         */
+        public List<Integer> topWords(int n) {
+            List<Integer> ids = new ArrayList<>(words.keySet());
+            ids.sort((a, b) -> Long.compare(words.get(b)[0], words.get(a)[0]));
+            return ids.subList(0, Math.min(n, ids.size()));
+        }
+
+        public void print(Map<Integer, String> names) {
+            System.out.printf("%-10s %10s %8s %8s %8s %10s%n", "Dificultad", "Partidas", "Ganadas", "Errores", "Pistas", "Duración");
+            for (Difficulty d : DIFFICULTIES) {
+                int i = d.ordinal();
+                if (games[i] == 0) continue;
+                System.out.printf("%-10s %10d %7.1f%% %8.2f %8.2f %8.1f s%n", d.name(), games[i],
+                        100.0 * wins[i] / games[i], (double) errors[i] / games[i],
+                        (double) hints[i] / games[i], duration[i] / 1000.0 / games[i]);
+            }
+            List<Integer> top = topWords(10);
+            if (!top.isEmpty()) System.out.println("Palabras más jugadas:");
+            for (int id : top) {
+                long[] w = words.get(id);
+                String name = names.getOrDefault(id, String.format("#%08x", id));
+                System.out.printf("  %-20s %8d partidas, %5.1f%% ganadas%n", name, w[0], 100.0 * w[1] / w[0]);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Uso: OutcomeRingReader <archivo> [--seguir] [--palabras]");
+            System.exit(2);
+        }
+        boolean follow = false;
+        boolean resolveWords = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--seguir")) follow = true;
+            else if (args[i].equals("--palabras")) resolveWords = true;
+        }
+        Map<Integer, String> names = new HashMap<>();
+        if (resolveWords) {
+            PatternIndex all = new WordBank().getPatternIndex(Optional.empty());
+            for (int i = 0; i < all.size(); i++) {
+                String word = all.get(i).getWord();
+                names.put(OutcomeRing.wordId(word), word);
+            }
+        }
+
+        try (OutcomeRingReader reader = open(Path.of(args[0]))) {
+            Summary summary = new Summary();
+            OutcomeRecord record = new OutcomeRecord();
+            if (!follow) {
+                long start = System.nanoTime();
+                int read = reader.poll(summary, record, true);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%d registros leídos (%.1f M/s), %d perdidos; %d escritos en total%n",
+                        read, read / seconds / 1e6, reader.getSkipped(), reader.getCursor());
+                summary.print(names);
+                return;
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> summary.print(names), "outcome-summary"));
+            while (true) {
+                int read = reader.poll(summary, record, false);
+                if (read > 0) {
+                    System.out.printf("+%d partidas, %d en total, %d perdidas%n",
+                            read, summary.getGames(), reader.getSkipped());
+                }
+                Thread.sleep(1000);
+            }
+        }
+    }
+}
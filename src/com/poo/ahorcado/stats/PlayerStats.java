@@ -0,0 +1,91 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+
+/**
+ * Estadísticas acumuladas de un jugador.
+ * 
+ * Las actualizaciones de un mismo jugador se serializan con el monitor del
+ * objeto (cada jugador es su propio "stripe"); las lecturas de la API pública
+ * devuelven copias consistentes.
+ */
+public class PlayerStats {
+    
+    private static final int LEVELS = Difficulty.values().length;
+    
+    private final String playerId;
+    private long games;
+    private long wins;
+    private int currentStreak;
+    private int bestStreak;
+    private final long[] gamesByDifficulty = new long[LEVELS];
+    private final long[] errorsByDifficulty = new long[LEVELS];
+    private final long[] hintsByDifficulty = new long[LEVELS];
+    
+    public PlayerStats(String playerId) {
+        this.playerId = playerId;
+    }
+    
+    /**
+     * Registra un resultado. Retorna la mejor racha después de registrarlo.
+     */
+    synchronized int record(GameResult result) {
+        int d = result.getDifficulty().ordinal();
+        games++;
+        gamesByDifficulty[d]++;
+        errorsByDifficulty[d] += result.getErrors();
+        hintsByDifficulty[d] += result.getHintsUsed();
+        if (result.isWon()) {
+            wins++;
+            currentStreak++;
+            if (currentStreak > bestStreak) bestStreak = currentStreak;
+        } else {
+            currentStreak = 0;
+        }
+        return bestStreak;
+    }
+    
+    /**
+     * Restaura valores persistidos (usado al cargar desde archivo).
+     */
+    synchronized void restore(long games, long wins, int currentStreak, int bestStreak,
+                              long[] gamesByDifficulty, long[] errorsByDifficulty, long[] hintsByDifficulty) {
+        this.games = games;
+        this.wins = wins;
+        this.currentStreak = currentStreak;
+        this.bestStreak = bestStreak;
+        System.arraycopy(gamesByDifficulty, 0, this.gamesByDifficulty, 0, Math.min(LEVELS, gamesByDifficulty.length));
+        System.arraycopy(errorsByDifficulty, 0, this.errorsByDifficulty, 0, Math.min(LEVELS, errorsByDifficulty.length));
+        System.arraycopy(hintsByDifficulty, 0, this.hintsByDifficulty, 0, Math.min(LEVELS, hintsByDifficulty.length));
+    }
+    
+    public String getPlayerId() { return playerId; }
+    
+    public synchronized long getGames() { return games; }
+    
+    public synchronized long getWins() { return wins; }
+    
+    public synchronized int getCurrentStreak() { return currentStreak; }
+    
+    public synchronized int getBestStreak() { return bestStreak; }
+    
+    public synchronized long getGames(Difficulty difficulty) {
+        return gamesByDifficulty[difficulty.ordinal()];
+    }
+    
+    public synchronized double getAverageErrors(Difficulty difficulty) {
+        long n = gamesByDifficulty[difficulty.ordinal()];
+        return n == 0 ? 0.0 : (double) errorsByDifficulty[difficulty.ordinal()] / n;
+    }
+    
+    public synchronized double getAverageHints(Difficulty difficulty) {
+        long n = gamesByDifficulty[difficulty.ordinal()];
+        return n == 0 ? 0.0 : (double) hintsByDifficulty[difficulty.ordinal()] / n;
+    }
+    
+    synchronized long[] copyGamesByDifficulty() { return gamesByDifficulty.clone(); }
+    
+    synchronized long[] copyErrorsByDifficulty() { return errorsByDifficulty.clone(); }
+    
+    synchronized long[] copyHintsByDifficulty() { return hintsByDifficulty.clone(); }
+}
@@ -0,0 +1,249 @@
+package com.poo.ahorcado.stats;
+
+import com.google.gson.Gson;
+import com.poo.ahorcado.config.Difficulty;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estadísticas por jugador y globales, alimentadas desde muchos hilos.
+ * 
+ * Los agregados globales usan LongAdder (contadores con stripes internos);
+ * cada jugador se actualiza bajo su propio monitor; el ranking por racha es
+ * un top-K concurrente. Opcionalmente se persiste cada cierto tiempo a un
+ * archivo JSON local y se recarga al crear el store.
+ */
+public class StatisticsStore implements AutoCloseable {
+    
+    private static final int LEVELS = Difficulty.values().length;
+    private static final int LEADERBOARD_SIZE = 100;
+    
+    private final ConcurrentHashMap<String, PlayerStats> players = new ConcurrentHashMap<>();
+    private final LongAdder[] games = adders();
+    private final LongAdder[] wins = adders();
+    private final LongAdder[] errors = adders();
+    private final LongAdder[] hints = adders();
+    private final StreakLeaderboard leaderboard = new StreakLeaderboard(LEADERBOARD_SIZE);
+    
+    private final Path file;
+    private final ScheduledExecutorService persister;
+    
+    /**
+     * Store solo en memoria.
+     */
+    public StatisticsStore() {
+        this.file = null;
+        this.persister = null;
+    }
+    
+    /**
+     * Store persistente: carga {@code file} si existe y lo reescribe cada
+     * {@code intervalSeconds} segundos y al cerrar.
+     */
+    public StatisticsStore(Path file, long intervalSeconds) {
+        this.file = file;
+        if (Files.exists(file)) {
+            load(file);
+        }
+        this.persister = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "statistics-persister");
+            t.setDaemon(true);
+            return t;
+        });
+        persister.scheduleWithFixedDelay(this::persistQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+    
+    private static LongAdder[] adders() {
+        LongAdder[] a = new LongAdder[LEVELS];
+        for (int i = 0; i < LEVELS; i++) a[i] = new LongAdder();
+        return a;
+    }
+    
+    /**
+     * Registra una partida terminada. Seguro para llamar desde muchos hilos.
+     */
+    public void record(GameResult result) {
+        int d = result.getDifficulty().ordinal();
+        games[d].increment();
+        if (result.isWon()) wins[d].increment();
+        errors[d].add(result.getErrors());
+        hints[d].add(result.getHintsUsed());
+        
+        PlayerStats stats = players.computeIfAbsent(result.getPlayerId(), PlayerStats::new);
+        synchronized (stats) {
+            int previousBest = stats.getBestStreak();
+            int best = stats.record(result);
+            leaderboard.update(stats.getPlayerId(), previousBest, best);
+        }
+    }
+    
+    // ---- Consultas ----
+    
+    public Optional<PlayerStats> getPlayer(String playerId) {
+        return Optional.ofNullable(players.get(playerId));
+    }
+    
+    /**
+     * Los n mejores jugadores por mejor racha (n hasta 100).
+     */
+    public List<StreakLeaderboard.Entry> topByStreak(int n) {
+        return leaderboard.top(n);
+    }
+    
+    public long getGames(Difficulty difficulty) {
+        return games[difficulty.ordinal()].sum();
+    }
+    
+    public long getWins(Difficulty difficulty) {
+        return wins[difficulty.ordinal()].sum();
+    }
+    
+    public double getAverageErrors(Difficulty difficulty) {
+        long n = getGames(difficulty);
+        return n == 0 ? 0.0 : (double) errors[difficulty.ordinal()].sum() / n;
+    }
+    
+    public double getAverageHints(Difficulty difficulty) {
+        long n = getGames(difficulty);
+        return n == 0 ? 0.0 : (double) hints[difficulty.ordinal()].sum() / n;
+    }
+    
+    public int getPlayerCount() {
+        return players.size();
+    }
+    
+    // ---- Persistencia ----
+    
+    /**
+     * Escribe el estado actual al archivo (reemplazo atómico). Las escrituras
+     * se serializan para que el guardado periódico y close() no se pisen.
+     */
+    public synchronized void persist() throws IOException {
+        if (file == null) return;
+        StatsData data = new StatsData();
+        for (PlayerStats p : players.values()) {
+            data.players.add(StatsData.PlayerData.from(p));
+        }
+        for (int i = 0; i < LEVELS; i++) {
+            data.games[i] = games[i].sum();
+            data.wins[i] = wins[i].sum();
+            data.errors[i] = errors[i].sum();
+            data.hints[i] = hints[i].sum();
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            new Gson().toJson(data, out);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private void persistQuietly() {
+        try {
+            persist();
+        } catch (IOException e) {
+            System.err.println("Error al guardar estadísticas en " + file + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Carga el archivo sumando sus valores al estado actual. Los arreglos y la
+     * lista de jugadores que falten (o sean null) cuentan como vacíos; un
+     * jugador sin id invalida el archivo.
+     */
+    private void load(Path path) {
+        StatsData data;
+        try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            data = new Gson().fromJson(in, StatsData.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al leer estadísticas desde " + path, e);
+        }
+        if (data == null) return;
+        addAll(games, data.games);
+        addAll(wins, data.wins);
+        addAll(errors, data.errors);
+        addAll(hints, data.hints);
+        if (data.players == null) return;
+        for (StatsData.PlayerData p : data.players) {
+            if (p == null || p.playerId == null) {
+                throw new UncheckedIOException(new IOException(
+                        "Estadísticas inválidas en " + path + ": jugador sin playerId"));
+            }
+            PlayerStats stats = new PlayerStats(p.playerId);
+            stats.restore(p.games, p.wins, p.currentStreak, p.bestStreak,
+                          orEmpty(p.gamesByDifficulty), orEmpty(p.errorsByDifficulty), orEmpty(p.hintsByDifficulty));
+            players.put(p.playerId, stats);
+            leaderboard.update(p.playerId, 0, p.bestStreak);
+        }
+    }
+    
+    private static void addAll(LongAdder[] adders, long[] values) {
+        if (values == null) return;
+        for (int i = 0; i < LEVELS && i < values.length; i++) {
+            adders[i].add(values[i]);
+        }
+    }
+    
+    private static long[] orEmpty(long[] values) {
+        return values != null ? values : new long[0];
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (persister != null) {
+            persister.shutdownNow();
+            persist();
+        }
+    }
+    
+    /**
+     * DTO para persistir con Gson.
+     */
+    static class StatsData {
+        long[] games = new long[LEVELS];
+        long[] wins = new long[LEVELS];
+        long[] errors = new long[LEVELS];
+        long[] hints = new long[LEVELS];
+        List<PlayerData> players = new ArrayList<>();
+        
+        static class PlayerData {
+            String playerId;
+            long games;
+            long wins;
+            int currentStreak;
+            int bestStreak;
+            long[] gamesByDifficulty;
+            long[] errorsByDifficulty;
+            long[] hintsByDifficulty;
+            
+            static PlayerData from(PlayerStats p) {
+                PlayerData d = new PlayerData();
+                synchronized (p) {
+                    d.playerId = p.getPlayerId();
+                    d.games = p.getGames();
+                    d.wins = p.getWins();
+                    d.currentStreak = p.getCurrentStreak();
+                    d.bestStreak = p.getBestStreak();
+                    d.gamesByDifficulty = p.copyGamesByDifficulty();
+                    d.errorsByDifficulty = p.copyErrorsByDifficulty();
+                    d.hintsByDifficulty = p.copyHintsByDifficulty();
+                }
+                return d;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.poo.ahorcado.stats;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Top-K concurrente de jugadores por mejor racha.
+ * 
+ * Usa un ConcurrentSkipListSet ordenado (sin locks globales), así que las
+ * consultas "top N" solo recorren los primeros N nodos aunque haya muchas
+ * escrituras concurrentes. Como la mejor racha de un jugador nunca baja,
+ * basta con guardar los K mejores: un jugador descartado vuelve a entrar
+ * cuando supera al último. Se guarda un margen extra sobre K para que los
+ * recortes concurrentes no pierdan entradas del top pedido.
+ */
+public class StreakLeaderboard {
+    
+    /**
+     * Posición en el ranking.
+     */
+    public static final class Entry implements Comparable<Entry> {
+        private final String playerId;
+        private final int streak;
+        
+        Entry(String playerId, int streak) {
+            this.playerId = playerId;
+            this.streak = streak;
+        }
+        
+        public String getPlayerId() { return playerId; }
+        
+        public int getStreak() { return streak; }
+        
+        @Override
+        public int compareTo(Entry o) {
+            int c = Integer.compare(o.streak, streak); // mayor racha primero
+            return c != 0 ? c : playerId.compareTo(o.playerId);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry e = (Entry) o;
+            return streak == e.streak && playerId.equals(e.playerId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerId, streak);
+        }
+        
+        @Override
+        public String toString() {
+            return playerId + "=" + streak;
+        }
+    }
+    
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+    private final AtomicInteger size = new AtomicInteger();
+    
+    /**
+     * @param k tamaño máximo de ranking que se va a consultar
+     */
+    public StreakLeaderboard(int k) {
+        this.capacity = k * 2;
+    }
+    
+    /**
+     * Actualiza la mejor racha de un jugador. Debe llamarse en orden por jugador
+     * (StatisticsStore lo hace bajo el monitor del jugador).
+     */
+    void update(String playerId, int previousBest, int best) {
+        if (best <= previousBest || best <= 0) return;
+        if (previousBest > 0 && entries.remove(new Entry(playerId, previousBest))) {
+            size.decrementAndGet();
+        }
+        Entry entry = new Entry(playerId, best);
+        if (size.get() >= capacity) {
+            Entry last = lastOrNull();
+            if (last != null && entry.compareTo(last) > 0) return; // no entra en el ranking
+        }
+        if (entries.add(entry)) {
+            size.incrementAndGet();
+        }
+        trim();
+    }
+    
+    private void trim() {
+        int s;
+        while ((s = size.get()) > capacity) {
+            if (size.compareAndSet(s, s - 1) && entries.pollLast() == null) {
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+    
+    private Entry lastOrNull() {
+        try {
+            return entries.last();
+        } catch (java.util.NoSuchElementException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Los primeros n jugadores por mejor racha.
+     */
+    public List<Entry> top(int n) {
+        List<Entry> result = new ArrayList<>(Math.min(n, capacity));
+        Iterator<Entry> it = entries.iterator();
+        while (result.size() < n && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+}
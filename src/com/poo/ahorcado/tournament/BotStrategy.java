@@ -0,0 +1,23 @@
+package com.poo.ahorcado.tournament;
+
+import com.poo.ahorcado.logic.Game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Jugador automático de un torneo. Una misma instancia juega muchas
+ * partidas a la vez desde distintos hilos, así que no debe guardar estado:
+ * todo lo que necesita lo saca de la partida.
+ */
+public interface BotStrategy {
+
+    /** Nombre corto para la tabla de posiciones. */
+    String getName();
+
+    /**
+     * Hace una jugada en la partida (que no terminó): una letra, la palabra
+     * completa o una pista. Para que el torneo sea reproducible, todo lo
+     * aleatorio tiene que salir de {@code random}.
+     */
+    void play(Game game, SplittableRandom random);
+}
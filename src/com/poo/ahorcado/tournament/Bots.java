@@ -0,0 +1,136 @@
+package com.poo.ahorcado.tournament;
+
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.PatternIndex;
+import com.poo.ahorcado.logic.WordBank;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Estrategias de bot incluidas:
+ * <ul>
+ *   <li>azar: una letra no intentada cualquiera.</li>
+ *   <li>frecuencia: las letras en orden de frecuencia en español.</li>
+ *   <li>entropia: pide la pista de categoría y después juega la letra que
+ *       recomienda el LetterAdvisor del banco; si queda una sola palabra
+ *       posible, la arriesga entera.</li>
+ * </ul>
+ */
+public final class Bots {
+
+    /** Letras del alfabeto de mayor a menor frecuencia en español. */
+    private static final String BY_FREQUENCY = "EAOSRNIDLCTUMPBGVYQHFZJÑXKW";
+
+    private Bots() {
+    }
+
+    public static BotStrategy random() {
+        return new BotStrategy() {
+            @Override
+            public String getName() { return "azar"; }
+
+            @Override
+            public void play(Game game, SplittableRandom random) {
+                Set<Character> tried = game.getTriedLetters();
+                String masked = game.getMaskedWord();
+                int options = 0;
+                for (int i = 0; i < BY_FREQUENCY.length(); i++) {
+                    if (available(BY_FREQUENCY.charAt(i), tried, masked)) options++;
+                }
+                if (options == 0) return;          // la palabra tiene letras fuera del alfabeto
+                int pick = random.nextInt(options);
+                for (int i = 0; i < BY_FREQUENCY.length(); i++) {
+                    char c = BY_FREQUENCY.charAt(i);
+                    if (available(c, tried, masked) && pick-- == 0) {
+                        game.play(c);
+                        return;
+                    }
+                }
+            }
+        };
+    }
+
+    public static BotStrategy frequency() {
+        return new BotStrategy() {
+            @Override
+            public String getName() { return "frecuencia"; }
+
+            @Override
+            public void play(Game game, SplittableRandom random) {
+                playByFrequency(game);
+            }
+        };
+    }
+
+    public static BotStrategy entropy(WordBank bank) {
+        return new BotStrategy() {
+            @Override
+            public String getName() { return "entropia"; }
+
+            @Override
+            public void play(Game game, SplittableRandom random) {
+                if (game.getHintsUsed() == 0) {
+                    game.hintCategory();           // a partir de aquí la categoría es conocida
+                    return;
+                }
+                String masked = game.getMaskedWord();
+                Set<Character> tried = game.getTriedLetters();
+                PatternIndex index = bank.getPatternIndex(Optional.of(game.getCurrent().getCategory()));
+                StringBuilder missed = new StringBuilder();
+                for (char c : tried) {
+                    if (masked.indexOf(c) < 0) missed.append(c);
+                }
+                if (index.count(masked, missed) == 1) {
+                    PrimitiveIterator.OfInt only = index.matches(masked, missed);
+                    game.guessWord(index.get(only.nextInt()).getWord());
+                    return;
+                }
+                char c = bank.getLetterAdvisor().recommend(game.getCurrent().getCategory(), masked, tried);
+                if (c != '\0') {
+                    game.play(c);
+                } else {
+                    playByFrequency(game);
+                }
+            }
+        };
+    }
+
+    /**
+     * Todas las estrategias incluidas.
+     */
+    public static List<BotStrategy> all(WordBank bank) {
+        return List.of(random(), frequency(), entropy(bank));
+    }
+
+    /**
+     * Estrategia por nombre (azar, frecuencia, entropia).
+     */
+    public static BotStrategy byName(String name, WordBank bank) {
+        switch (name.trim().toLowerCase()) {
+            case "azar": return random();
+            case "frecuencia": return frequency();
+            case "entropia": return entropy(bank);
+            default: throw new IllegalArgumentException("Estrategia desconocida: " + name);
+        }
+    }
+
+    private static void playByFrequency(Game game) {
+        Set<Character> tried = game.getTriedLetters();
+        String masked = game.getMaskedWord();
+        for (int i = 0; i < BY_FREQUENCY.length(); i++) {
+            char c = BY_FREQUENCY.charAt(i);
+            if (available(c, tried, masked)) {
+                game.play(c);
+                return;
+            }
+        }
+    }
+
+    private static boolean available(char c, Set<Character> tried, String masked) {
+        return !tried.contains(c) && masked.indexOf(c) < 0;
+    }
+}
@@ -0,0 +1,75 @@
+package com.poo.ahorcado.tournament;
+
+/**
+ * Resultado de un partido: los dos bots jugaron las mismas palabras.
+ * Los jugadores se identifican por su posición en la lista de inscriptos.
+ */
+public final class MatchResult {
+
+    private final int round;
+    private final int home;
+    private final int away;
+    private final int homeWins;
+    private final int awayWins;
+    private final int homeErrors;
+    private final int awayErrors;
+    private final int homeHints;
+    private final int awayHints;
+
+    MatchResult(int round, int home, int away, int homeWins, int awayWins,
+                int homeErrors, int awayErrors, int homeHints, int awayHints) {
+        this.round = round;
+        this.home = home;
+        this.away = away;
+        this.homeWins = homeWins;
+        this.awayWins = awayWins;
+        this.homeErrors = homeErrors;
+        this.awayErrors = awayErrors;
+        this.homeHints = homeHints;
+        this.awayHints = awayHints;
+    }
+
+    /**
+     * Ganador por partidas ganadas, o -1 si empataron en partidas y errores.
+     */
+    public int getWinner() {
+        if (homeWins != awayWins) return homeWins > awayWins ? home : away;
+        if (homeErrors != awayErrors) return homeErrors < awayErrors ? home : away;
+        return -1;
+    }
+
+    /**
+     * Ganador sin empates (para eliminación): si empataron en partidas y
+     * errores gana el que usó menos pistas y, si no, el mejor ubicado.
+     */
+    int getBracketWinner() {
+        int winner = getWinner();
+        if (winner >= 0) return winner;
+        if (homeHints != awayHints) return homeHints < awayHints ? home : away;
+        return Math.min(home, away);
+    }
+
+    public int getRound() { return round; }
+
+    public int getHome() { return home; }
+
+    public int getAway() { return away; }
+
+    public int getHomeWins() { return homeWins; }
+
+    public int getAwayWins() { return awayWins; }
+
+    public int getHomeErrors() { return homeErrors; }
+
+    public int getAwayErrors() { return awayErrors; }
+
+    public int getHomeHints() { return homeHints; }
+
+    public int getAwayHints() { return awayHints; }
+
+    @Override
+    public String toString() {
+        return "R" + round + " " + home + " vs " + away + ": " + homeWins + "-" + awayWins
+                + " (errores " + homeErrors + "-" + awayErrors + ", pistas " + homeHints + "-" + awayHints + ")";
+    }
+}
@@ -0,0 +1,61 @@
+package com.poo.ahorcado.tournament;
+
+/**
+ * Posición de un jugador en la tabla del torneo.
+ */
+public final class Standing {
+
+    private final int entry;
+    private final String name;
+    int matches;
+    int matchWins;
+    int draws;
+    int losses;
+    int games;
+    int gamesWon;
+    long errors;
+    long hints;
+    int roundReached;
+
+    Standing(int entry, String name) {
+        this.entry = entry;
+        this.name = name;
+    }
+
+    void add(int wins, int errors, int hints, int games) {
+        this.matches++;
+        this.games += games;
+        this.gamesWon += wins;
+        this.errors += errors;
+        this.hints += hints;
+    }
+
+    /** Posición en la lista de inscriptos. */
+    public int getEntry() { return entry; }
+
+    public String getName() { return name; }
+
+    public int getMatches() { return matches; }
+
+    public int getMatchWins() { return matchWins; }
+
+    public int getDraws() { return draws; }
+
+    public int getLosses() { return losses; }
+
+    /** 3 por partido ganado, 1 por empate. */
+    public int getPoints() { return 3 * matchWins + draws; }
+
+    public int getGames() { return games; }
+
+    public int getGamesWon() { return gamesWon; }
+
+    public double getWinRate() { return games == 0 ? 0.0 : (double) gamesWon / games; }
+
+    public double getAverageErrors() { return games == 0 ? 0.0 : (double) errors / games; }
+
+    public double getAverageHints() { return games == 0 ? 0.0 : (double) hints / games; }
+
+    /** En eliminación, rondas superadas (con los pases libres); el campeón, todas. */
+    public int getRoundReached() { return roundReached; }
+}
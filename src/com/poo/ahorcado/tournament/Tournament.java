@@ -0,0 +1,311 @@
+package com.poo.ahorcado.tournament;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.PatternIndex;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Torneos entre estrategias de bot, para comparar estrategias y ajustar
+ * pistas y dificultades.
+ *
+ * En cada partido los dos bots juegan, cada uno en su propio Game, la misma
+ * secuencia de palabras: las mismas para todo el torneo, elegidas del banco
+ * con la semilla. Gana el partido quien gana más partidas (desempata quien
+ * comete menos errores). Formatos: liga (todos contra todos, 3 puntos por
+ * partido ganado y 1 por empate) o eliminación directa.
+ *
+ * Las partidas (no los partidos) se reparten entre los hilos de un
+ * ForkJoinPool, así que hasta una final aprovecha todos los núcleos. Cada
+ * partida usa una semilla propia derivada de la del torneo, la ronda, el
+ * partido y el número de partida, y los totales se suman después en orden:
+ * el resultado no depende del número de hilos.
+ *
+ * Uso: java com.poo.ahorcado.tournament.Tournament [--formato liga|eliminacion]
+ *      [--partidas N] [--dificultad MEDIO] [--semilla S] [--hilos N] [estrategia ...]
+ */
+public class Tournament {
+
+    public enum Format { LIGA, ELIMINACION }
+
+    /** Partidas por tarea antes de dejar de dividir. */
+    private static final int THRESHOLD = 16;
+
+    /** Jugadas seguidas sin efecto tras las que se da la partida por perdida. */
+    private static final int MAX_STALLS = 3;
+
+    private final WordBank bank;
+    private final GameConfig config;
+    private final int gamesPerMatch;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public Tournament(WordBank bank, Difficulty difficulty, int gamesPerMatch, long seed) {
+        this(bank, difficulty, gamesPerMatch, seed, ForkJoinPool.commonPool());
+    }
+
+    public Tournament(WordBank bank, Difficulty difficulty, int gamesPerMatch, long seed, ForkJoinPool pool) {
+        if (gamesPerMatch <= 0) {
+            throw new IllegalArgumentException("Partidas por partido inválidas: " + gamesPerMatch);
+        }
+        this.bank = bank;
+        this.config = new GameConfig(difficulty);
+        this.gamesPerMatch = gamesPerMatch;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    public TournamentReport play(Format format, List<BotStrategy> players) {
+        return format == Format.LIGA ? roundRobin(players) : bracket(players);
+    }
+
+    /**
+     * Liga: todos contra todos, un partido por par.
+     */
+    public TournamentReport roundRobin(List<BotStrategy> players) {
+        long start = System.nanoTime();
+        WordEntry[] words = words();
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = i + 1; j < players.size(); j++) pairs.add(new int[] {i, j});
+        }
+        List<MatchResult> matches = playRound(0, pairs, players, words);
+
+        List<Standing> standings = standings(players);
+        for (MatchResult m : matches) record(standings, m);
+        standings.sort(Comparator.comparingInt(Standing::getPoints).reversed()
+                .thenComparing(Comparator.comparingInt(Standing::getGamesWon).reversed())
+                .thenComparingLong(s -> s.errors)
+                .thenComparingInt(Standing::getEntry));
+        return new TournamentReport(Format.LIGA, matches, standings,
+                2L * matches.size() * gamesPerMatch, System.nanoTime() - start);
+    }
+
+    /**
+     * Eliminación directa. Si los jugadores no son potencia de 2, los
+     * primeros de la lista pasan la primera ronda sin jugar; desde ahí, en
+     * cada ronda se enfrentan el 1.º y el 2.º que siguen en carrera, el 3.º y
+     * el 4.º, etc.
+     */
+    public TournamentReport bracket(List<BotStrategy> players) {
+        long start = System.nanoTime();
+        WordEntry[] words = words();
+        List<Standing> standings = standings(players);
+        List<MatchResult> matches = new ArrayList<>();
+        List<Integer> alive = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) alive.add(i);
+
+        for (int round = 0; alive.size() > 1; round++) {
+            int byes = Integer.bitCount(alive.size()) == 1 ? 0 : Integer.highestOneBit(alive.size()) * 2 - alive.size();
+            List<Integer> next = new ArrayList<>(alive.subList(0, byes));
+            List<int[]> pairs = new ArrayList<>();
+            for (int k = byes; k + 1 < alive.size(); k += 2) pairs.add(new int[] {alive.get(k), alive.get(k + 1)});
+            for (MatchResult m : playRound(round, pairs, players, words)) {
+                record(standings, m);
+                matches.add(m);
+                next.add(m.getBracketWinner());
+            }
+            for (int entry : next) standings.get(entry).roundReached = round + 1;
+            alive = next;
+        }
+        standings.sort(Comparator.comparingInt(Standing::getRoundReached).reversed()
+                .thenComparing(Comparator.comparingInt(Standing::getGamesWon).reversed())
+                .thenComparingLong(s -> s.errors)
+                .thenComparingInt(Standing::getEntry));
+        return new TournamentReport(Format.ELIMINACION, matches, standings,
+                2L * matches.size() * gamesPerMatch, System.nanoTime() - start);
+    }
+
+    /**
+     * Palabras del torneo, elegidas de todo el banco con la semilla.
+     */
+    private WordEntry[] words() {
+        PatternIndex all = bank.getPatternIndex(Optional.empty());
+        SplittableRandom random = new SplittableRandom(seed);
+        WordEntry[] words = new WordEntry[gamesPerMatch];
+        for (int g = 0; g < gamesPerMatch; g++) words[g] = all.get(random.nextInt(all.size()));
+        return words;
+    }
+
+    private static List<Standing> standings(List<BotStrategy> players) {
+        Map<String, Integer> seen = new HashMap<>();
+        List<Standing> standings = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            String name = players.get(i).getName();
+            int n = seen.merge(name, 1, Integer::sum);
+            standings.add(new Standing(i, n == 1 ? name : name + "#" + n));
+        }
+        return standings;
+    }
+
+    // las posiciones en standings coinciden con la lista de inscriptos hasta ordenar
+    private void record(List<Standing> standings, MatchResult m) {
+        Standing home = standings.get(m.getHome());
+        Standing away = standings.get(m.getAway());
+        home.add(m.getHomeWins(), m.getHomeErrors(), m.getHomeHints(), gamesPerMatch);
+        away.add(m.getAwayWins(), m.getAwayErrors(), m.getAwayHints(), gamesPerMatch);
+        int winner = m.getWinner();
+        if (winner < 0) {
+            home.draws++;
+            away.draws++;
+        } else if (winner == m.getHome()) {
+            home.matchWins++;
+            away.losses++;
+        } else {
+            away.matchWins++;
+            home.losses++;
+        }
+    }
+
+    /**
+     * Juega en paralelo todas las partidas de los partidos de una ronda.
+     * Cada partida deja su resultado en su propia posición; los totales por
+     * partido se suman después, en orden.
+     */
+    private List<MatchResult> playRound(int round, List<int[]> pairs, List<BotStrategy> players, WordEntry[] words) {
+        int total = pairs.size() * gamesPerMatch;
+        // por partida y lado (local = 2*i, visitante = 2*i+1)
+        byte[] won = new byte[2 * total];
+        short[] errors = new short[2 * total];
+        byte[] hints = new byte[2 * total];
+        pool.invoke(new RoundTask(round, pairs, players, words, won, errors, hints, 0, total));
+
+        List<MatchResult> results = new ArrayList<>(pairs.size());
+        for (int p = 0; p < pairs.size(); p++) {
+            int[] sum = new int[6];
+            for (int g = 0; g < gamesPerMatch; g++) {
+                int at = 2 * (p * gamesPerMatch + g);
+                for (int side = 0; side < 2; side++) {
+                    sum[side] += won[at + side];
+                    sum[2 + side] += errors[at + side];
+                    sum[4 + side] += hints[at + side];
+                }
+            }
+            results.add(new MatchResult(round, pairs.get(p)[0], pairs.get(p)[1],
+                    sum[0], sum[1], sum[2], sum[3], sum[4], sum[5]));
+        }
+        return results;
+    }
+
+    private final class RoundTask extends RecursiveAction {
+        private final int round;
+        private final List<int[]> pairs;
+        private final List<BotStrategy> players;
+        private final WordEntry[] words;
+        private final byte[] won;
+        private final short[] errors;
+        private final byte[] hints;
+        private final int from;
+        private final int to;
+
+        RoundTask(int round, List<int[]> pairs, List<BotStrategy> players, WordEntry[] words,
+                  byte[] won, short[] errors, byte[] hints, int from, int to) {
+            this.round = round;
+            this.pairs = pairs;
+            this.players = players;
+            this.words = words;
+            this.won = won;
+            this.errors = errors;
+            this.hints = hints;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    int pair = i / gamesPerMatch;
+                    int g = i % gamesPerMatch;
+                    long gameSeed = mix(seed + mix(((long) round << 40) + ((long) pair << 20) + g));
+                    for (int side = 0; side < 2; side++) {
+                        // los dos bots reciben la misma secuencia aleatoria
+                        BotStrategy bot = players.get(pairs.get(pair)[side]);
+                        Game game = playGame(bot, words[g], new SplittableRandom(gameSeed));
+                        won[2 * i + side] = (byte) (game.isWon() ? 1 : 0);
+                        errors[2 * i + side] = (short) game.getErrors();
+                        hints[2 * i + side] = (byte) game.getHintsUsed();
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RoundTask(round, pairs, players, words, won, errors, hints, from, mid),
+                      new RoundTask(round, pairs, players, words, won, errors, hints, mid, to));
+        }
+    }
+
+    /**
+     * Juega una partida completa con el bot. Si el bot deja de avanzar (no
+     * intenta nada nuevo), la partida termina y cuenta como perdida.
+     */
+    private Game playGame(BotStrategy bot, WordEntry word, SplittableRandom random) {
+        Game game = new Game(bank, config);
+        game.startNew(Optional.of(word.getCategory()), (c, d) -> word);
+        int stalls = 0;
+        while (!game.isFinished() && stalls < MAX_STALLS) {
+            int before = progress(game);
+            bot.play(game, random);
+            stalls = progress(game) == before ? stalls + 1 : 0;
+        }
+        return game;
+    }
+
+    private static int progress(Game game) {
+        return game.getTriedLetters().size() + game.getHintsUsed() + game.getErrors();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) {
+        Format format = Format.LIGA;
+        int games = 200;
+        Difficulty difficulty = Difficulty.MEDIO;
+        long seed = 42L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--formato": format = Format.valueOf(args[++i].toUpperCase()); break;
+                case "--partidas": games = Integer.parseInt(args[++i]); break;
+                case "--dificultad": difficulty = Difficulty.valueOf(args[++i].toUpperCase()); break;
+                case "--semilla": seed = Long.parseLong(args[++i]); break;
+                case "--hilos": threads = Integer.parseInt(args[++i]); break;
+                default: names.add(args[i]);
+            }
+        }
+        WordBank bank = new WordBank();
+        List<BotStrategy> players = new ArrayList<>();
+        if (names.isEmpty()) {
+            players.addAll(Bots.all(bank));
+        } else {
+            for (String name : names) players.add(Bots.byName(name, bank));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            TournamentReport report = new Tournament(bank, difficulty, games, seed, pool).play(format, players);
+            System.out.println("Torneo " + format.name().toLowerCase() + ", " + difficulty.getDisplayName()
+                    + ", " + games + " palabras por partido, " + threads + " hilo(s)");
+            report.print(System.out);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.poo.ahorcado.tournament;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Resultado de un torneo: partidos en orden de juego, tabla de posiciones
+ * ya ordenada y rendimiento.
+ */
+public final class TournamentReport {
+
+    private final Tournament.Format format;
+    private final List<MatchResult> matches;
+    private final List<Standing> standings;
+    private final long games;
+    private final long elapsedNanos;
+
+    TournamentReport(Tournament.Format format, List<MatchResult> matches, List<Standing> standings,
+                     long games, long elapsedNanos) {
+        this.format = format;
+        this.matches = List.copyOf(matches);
+        this.standings = List.copyOf(standings);
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Tournament.Format getFormat() { return format; }
+
+    public List<MatchResult> getMatches() { return matches; }
+
+    public List<Standing> getStandings() { return standings; }
+
+    /** Partidas jugadas en total (cada bot de cada partido cuenta las suyas). */
+    public long getGames() { return games; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Texto que resume los resultados (sin tiempos), igual para dos torneos
+     * con los mismos resultados: sirve para comparar corridas.
+     */
+    public String fingerprint() {
+        StringBuilder sb = new StringBuilder();
+        for (MatchResult m : matches) sb.append(m).append('\n');
+        for (Standing s : standings) {
+            sb.append(s.getName()).append(' ').append(s.getPoints()).append(' ').append(s.getGamesWon())
+              .append(' ').append(s.errors).append(' ').append(s.hints).append(' ').append(s.getRoundReached()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public void print(PrintStream out) {
+        boolean bracket = format == Tournament.Format.ELIMINACION;
+        out.printf("%-3s %-14s %4s %4s %4s %4s %6s %8s %8s %7s%n", "#", "Jugador", "PJ", "G", "E", "P",
+                bracket ? "Rondas" : "Pts", "Ganadas", "Errores", "Pistas");
+        int position = 1;
+        for (Standing s : standings) {
+            out.printf("%-3d %-14s %4d %4d %4d %4d %6d %7.1f%% %8.2f %7.2f%n", position++, s.getName(),
+                    s.getMatches(), s.getMatchWins(), s.getDraws(), s.getLosses(),
+                    bracket ? s.getRoundReached() : s.getPoints(),
+                    100 * s.getWinRate(), s.getAverageErrors(), s.getAverageHints());
+        }
+        out.printf("%d partidos, %,d partidas en %.2f s (%,.0f partidas/s)%n",
+                matches.size(), games, elapsedNanos / 1e9, getGamesPerSecond());
+    }
+}
@@ -2,8 +2,20 @@ package com.poo.ahorcado.ui;
 
 import com.poo.ahorcado.config.Difficulty;
 import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.jfr.ControllerTurnEvent;
 import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.GuessBatch;
+import com.poo.ahorcado.logic.GuessResult;
 import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.logic.WordDeck;
+import com.poo.ahorcado.logic.WordSelector;
+import com.poo.ahorcado.logic.event.GameEventPublisher;
+import com.poo.ahorcado.metrics.StartupTimer;
+import com.poo.ahorcado.profile.PlayerProfile;
+import com.poo.ahorcado.profile.ProfileRepository;
+import com.poo.ahorcado.stats.GameResult;
+import com.poo.ahorcado.stats.OutcomeRing;
+import com.poo.ahorcado.stats.StatisticsStore;
 import com.poo.ahorcado.model.Category;
 
 import java.util.Optional;
@@ -17,10 +29,61 @@ public class GameController {
     
     private final WordBank wordBank;
     private final GameView view;
+    private final GameEventPublisher events;
+    private StatisticsStore statistics;
+    private OutcomeRing outcomes;
+    private String playerId = "local";
+    private ProfileRepository profiles;
+    private WordSelector selector;          // null = mazo sin repetición (deck)
+    private WordDeck deck;
+    private final GuessBatch batch = new GuessBatch();   // reutilizado en cada LETRAS
     
     public GameController(WordBank wordBank, GameView view) {
+        this(wordBank, view, null);
+    }
+    
+    /**
+     * Constructor que publica los eventos de cada partida en el publicador indicado,
+     * para que estadísticas, logs u otras vistas puedan suscribirse.
+     */
+    public GameController(WordBank wordBank, GameView view, GameEventPublisher events) {
         this.wordBank = wordBank;
         this.view = view;
+        this.events = events;
+    }
+    
+    /**
+     * Registra los resultados de cada partida terminada en el store indicado.
+     */
+    public void setStatistics(StatisticsStore statistics, String playerId) {
+        this.statistics = statistics;
+        this.playerId = playerId;
+    }
+    
+    /**
+     * Agrega cada partida terminada al registro en archivo (sobrevive si el
+     * proceso muere).
+     */
+    public void setOutcomeRing(OutcomeRing outcomes) {
+        this.outcomes = outcomes;
+    }
+    
+    /**
+     * Elige la palabra de cada partida con la estrategia indicada
+     * (por ejemplo, DailyChallenge) en lugar del mazo por jugador.
+     */
+    public void setWordSelector(WordSelector selector) {
+        this.selector = selector;
+    }
+    
+    /**
+     * Usa el perfil del jugador para sugerir la dificultad y lo actualiza al
+     * terminar cada partida. La carga empieza ahora, en segundo plano.
+     */
+    public void setProfiles(ProfileRepository profiles, String playerId) {
+        this.profiles = profiles;
+        this.playerId = playerId;
+        profiles.prefetch(playerId);
     }
     
     /**
@@ -45,13 +108,23 @@ public class GameController {
      */
     private void playGame() {
         // Solicitar configuración al usuario
-        Difficulty difficulty = view.requestDifficulty();
+        StartupTimer.firstPrompt();
+        Difficulty difficulty = requestDifficulty();
         Optional<Category> category = view.requestCategory();
         
         // Crear juego con configuración
         GameConfig config = new GameConfig(difficulty);
-        Game game = new Game(wordBank, config);
-        game.startNew(category);
+        Game game = new Game(wordBank, config, events);
+        if (selector != null) {
+            game.startNew(category, selector);
+        } else {
+            // Sin estrategia explícita: mazo por jugador, sin repetir palabras entre partidas
+            if (deck == null) {
+                deck = new WordDeck(wordBank, System.nanoTime());
+            }
+            game.startNew(category, deck.forPlayer(playerId));
+        }
+        long startedAt = System.currentTimeMillis();
         
         // Mostrar información inicial
         view.showMessage("Dificultad: " + difficulty.getDisplayName());
@@ -61,6 +134,9 @@ public class GameController {
         // Bucle principal del juego
         boolean shouldExit = false;
         while (!game.isFinished() && !shouldExit) {
+            ControllerTurnEvent turn = new ControllerTurnEvent();
+            turn.begin();
+            
             // Mostrar estado
             GameState state = GameState.fromGame(game);
             view.displayGameState(state);
@@ -70,17 +146,58 @@ public class GameController {
             
             if (input == null || input.trim().isEmpty()) {
                 view.showError("Por favor, ingresa un comando válido.");
+                commitTurn(turn, game, input, false);
                 continue;
             }
             
             // Procesar comando - retorna true si se debe salir
             shouldExit = processInput(game, input.trim().toUpperCase());
+            commitTurn(turn, game, input, shouldExit);
         }
         
         // Mostrar resultado final solo si el juego terminó normalmente (no por SALIR)
         if (!shouldExit) {
             GameState finalState = GameState.fromGame(game);
             view.showFinalResult(finalState);
+            if (statistics != null || outcomes != null) {
+                GameResult result = GameResult.fromGame(playerId, game, System.currentTimeMillis() - startedAt);
+                if (statistics != null) statistics.record(result);
+                if (outcomes != null) outcomes.record(result, game.getCurrent().getWord());
+            }
+            if (profiles != null) {
+                PlayerProfile profile = profiles.get(playerId);
+                profile.recordGame(difficulty, game.getCurrent().getWord(), game.isWon());
+                profiles.update(profile);
+            }
+        }
+    }
+    
+    /**
+     * Pide la dificultad sugiriendo la preferida del perfil, solo si ya está
+     * en memoria: el primer prompt nunca espera la carga del perfil.
+     */
+    private Difficulty requestDifficulty() {
+        if (profiles == null) {
+            return view.requestDifficulty();
+        }
+        Optional<PlayerProfile> profile = profiles.getIfLoaded(playerId);
+        if (profile.isPresent() && profile.get().getPreferredDifficulty() != null) {
+            return view.requestDifficulty(profile.get().getPreferredDifficulty());
+        }
+        return view.requestDifficulty();
+    }
+    
+    /**
+     * Registra el turno en JFR si el evento está habilitado.
+     */
+    private void commitTurn(ControllerTurnEvent turn, Game game, String input, boolean exit) {
+        turn.end();
+        if (turn.shouldCommit()) {
+            turn.input = input;
+            turn.difficulty = game.getConfig().getDifficulty().name();
+            turn.finished = game.isFinished();
+            turn.exit = exit;
+            turn.commit();
         }
     }
     
@@ -95,6 +212,25 @@ public class GameController {
             return false; // Continuar el juego
         }
         
+        // Varias letras o la palabra completa: "LETRAS AEIO", "PALABRA JIRAFA"
+        int space = input.indexOf(' ');
+        if (space > 0) {
+            String command = input.substring(0, space);
+            String argument = input.substring(space + 1).trim();
+            switch (command) {
+                case "LETRAS":
+                case "LETTERS":
+                    processBatchGuess(game, argument);
+                    return false;
+                case "PALABRA":
+                case "WORD":
+                    processWordGuess(game, argument);
+                    return false;
+                default:
+                    break;
+            }
+        }
+        
         // Procesar comandos
         switch (input) {
             case "1":
@@ -140,31 +276,83 @@ public class GameController {
      * Procesa un intento de adivinar una letra.
      */
     private void processLetterGuess(Game game, char letter) {
-        GameState stateBefore = GameState.fromGame(game);
-        String maskedWordBefore = stateBefore.getMaskedWord();
-        int errorsBefore = stateBefore.getErrors();
+        GuessResult result = game.play(letter);
         
-        // Verificar si la letra ya fue revelada
-        if (maskedWordBefore.indexOf(letter) != -1) {
-            view.showMessage("ℹ La letra '" + letter + "' ya fue revelada anteriormente.");
+        switch (result) {
+            case REVEALED:
+                view.showMessage("✓ ¡Correcto! La letra '" + letter + "' está en la palabra.");
+                break;
+            case DUPLICATE:
+                if (game.getMaskedWord().indexOf(letter) != -1) {
+                    view.showMessage("ℹ La letra '" + letter + "' ya fue revelada anteriormente.");
+                } else {
+                    view.showMessage("ℹ Ya intentaste la letra '" + letter + "' anteriormente.");
+                }
+                break;
+            case MISS:
+                if (!game.isFinished()) {
+                    view.showError("✗ La letra '" + letter + "' no está en la palabra.");
+                    view.showMessage("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.");
+                }
+                break;
+            case FINISHED:
+                break;
+        }
+    }
+    
+    /**
+     * Procesa un lote de letras en una sola llamada a Game, ignorando lo que no
+     * sea letra (espacios, comas). Muestra un resumen en lugar de un mensaje por letra.
+     */
+    private void processBatchGuess(Game game, String letters) {
+        StringBuilder valid = new StringBuilder(letters.length());
+        for (int i = 0; i < letters.length(); i++) {
+            if (Character.isLetter(letters.charAt(i))) {
+                valid.append(letters.charAt(i));
+            }
+        }
+        if (valid.length() == 0) {
+            view.showError("Indica las letras a probar, por ejemplo: LETRAS AEIO");
             return;
         }
         
-        boolean hit = game.guess(letter);
-        GameState stateAfter = GameState.fromGame(game);
-        int errorsAfter = stateAfter.getErrors();
-        
-        if (hit) {
-            view.showMessage("✓ ¡Correcto! La letra '" + letter + "' está en la palabra.");
-        } else {
-            // Si los errores no aumentaron, significa que ya estaba en tried
-            if (errorsBefore == errorsAfter && !game.isFinished()) {
-                view.showMessage("ℹ Ya intentaste la letra '" + letter + "' anteriormente.");
-            } else if (!game.isFinished()) {
-                view.showError("✗ La letra '" + letter + "' no está en la palabra.");
-                view.showMessage("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.");
+        game.playAll(valid, batch);
+        StringBuilder revealed = new StringBuilder();
+        StringBuilder missed = new StringBuilder();
+        StringBuilder repeated = new StringBuilder();
+        for (int i = 0; i < batch.size(); i++) {
+            switch (batch.resultAt(i)) {
+                case REVEALED:  revealed.append(batch.letterAt(i)); break;
+                case MISS:      missed.append(batch.letterAt(i)); break;
+                case DUPLICATE: repeated.append(batch.letterAt(i)); break;
+                case FINISHED:  break;
             }
         }
+        if (revealed.length() > 0) {
+            view.showMessage("✓ Letras en la palabra: " + revealed);
+        }
+        if (repeated.length() > 0) {
+            view.showMessage("ℹ Ya intentadas: " + repeated);
+        }
+        if (missed.length() > 0 && !game.isFinished()) {
+            view.showError("✗ Letras que no están: " + missed);
+            view.showMessage("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.");
+        }
+    }
+    
+    /**
+     * Procesa un intento de adivinar la palabra completa.
+     */
+    private void processWordGuess(Game game, String word) {
+        if (word.isEmpty()) {
+            view.showError("Indica la palabra, por ejemplo: PALABRA JIRAFA");
+            return;
+        }
+        GuessResult result = game.guessWord(word);
+        if (result == GuessResult.MISS && !game.isFinished()) {
+            view.showError("✗ '" + word + "' no es la palabra.");
+            view.showMessage("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.");
+        }
     }
     
     /**
@@ -182,9 +370,12 @@ public class GameController {
         view.showMessage("  • Puedes usar hasta 3 pistas durante el juego.");
         view.showMessage("  • Si adivinas una letra incorrecta, pierdes un intento.");
         view.showMessage("");
+        view.showMessage("  • LETRAS AEIO prueba varias letras de una vez.");
+        view.showMessage("  • PALABRA <palabra> arriesga la palabra completa; si fallas, cuenta como error.");
+        view.showMessage("");
         view.showMessage("PISTAS:");
         view.showMessage("  1. Categoría: Te muestra la categoría de la palabra.");
-        view.showMessage("  2. Letra aleatoria: Revela una letra de la palabra.");
+        view.showMessage("  2. Letra: En Fácil revela una letra; en Medio y Difícil sugiere la letra más útil.");
         view.showMessage("  3. Pista de texto: Te da una pista descriptiva.");
         view.showMessage("");
     }
@@ -20,6 +20,14 @@ public interface GameView {
      */
     Difficulty requestDifficulty();
     
+    /**
+     * Solicita la dificultad proponiendo una por defecto (p. ej. la preferida
+     * del perfil del jugador). Por defecto ignora la sugerencia.
+     */
+    default Difficulty requestDifficulty(Difficulty suggested) {
+        return requestDifficulty();
+    }
+    
     /**
      * Solicita al usuario que seleccione una categoría.
      * @return Optional con la categoría seleccionada, o empty para aleatoria
@@ -3,6 +3,7 @@ package com.poo.ahorcado.ui.console;
 import com.poo.ahorcado.config.Difficulty;
 import com.poo.ahorcado.config.GameConfig;
 import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.GuessResult;
 import com.poo.ahorcado.logic.WordBank;
 import com.poo.ahorcado.model.Category;
 
@@ -95,29 +96,20 @@ public class ConsoleGameController {
     }
     
     private void processLetterGuess(Game game, char letter) {
-        String maskedWordBefore = game.getMaskedWord();
-        int errorsBefore = game.getErrors();
+        GuessResult result = game.play(letter);
         
-        // Verificar si la letra ya fue revelada (visible en la palabra)
-        if (maskedWordBefore.indexOf(letter) != -1) {
-            System.out.println("ℹ La letra '" + letter + "' ya fue revelada anteriormente.\n");
-            return;
-        }
-        
-        boolean hit = game.guess(letter);
-        int errorsAfter = game.getErrors();
-        
-        if (hit) {
+        if (result == GuessResult.REVEALED) {
             System.out.println("✓ ¡Correcto! La letra '" + letter + "' está en la palabra.\n");
-        } else {
-            // Si los errores no aumentaron, significa que ya estaba en tried (no se procesó)
-            if (errorsBefore == errorsAfter && !game.isFinished()) {
+        } else if (result == GuessResult.DUPLICATE) {
+            // Ya estaba en tried: puede estar visible o haber sido un fallo previo
+            if (game.getMaskedWord().indexOf(letter) != -1) {
+                System.out.println("ℹ La letra '" + letter + "' ya fue revelada anteriormente.\n");
+            } else {
                 System.out.println("ℹ Ya intentaste la letra '" + letter + "' anteriormente.\n");
-            } else if (!game.isFinished()) {
-                // Los errores aumentaron, fue un intento fallido
-                System.out.println("✗ La letra '" + letter + "' no está en la palabra.");
-                System.out.println("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.\n");
             }
+        } else if (result == GuessResult.MISS && !game.isFinished()) {
+            System.out.println("✗ La letra '" + letter + "' no está en la palabra.");
+            System.out.println("  Errores: " + game.getErrors() + " / " + game.getAttemptsLeft() + " intentos restantes.\n");
         }
     }
     
@@ -5,8 +5,13 @@ import com.poo.ahorcado.model.Category;
 import com.poo.ahorcado.ui.GameState;
 import com.poo.ahorcado.ui.GameView;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.function.Function;
 
 /**
  * Implementación de GameView para consola.
@@ -15,54 +20,82 @@ import java.util.Scanner;
 public class ConsoleGameView implements GameView {
     
     private final Scanner scanner;
+    private final BufferedReader reader;
+    private final PrintStream out;
+    private Function<Category, String> categoryNames = Category::getDisplayName;
     
     public ConsoleGameView(Scanner scanner) {
         this.scanner = scanner;
+        this.reader = null;
+        this.out = System.out;
+    }
+    
+    /**
+     * Constructor alternativo que lee líneas de un BufferedReader y escribe
+     * en el PrintStream indicado (útil para reproducir scripts y benchmarks).
+     */
+    public ConsoleGameView(BufferedReader reader, PrintStream out) {
+        this.scanner = null;
+        this.reader = reader;
+        this.out = out;
+    }
+    
+    /**
+     * Nombres de categoría que se muestran (por ejemplo los de otro idioma).
+     */
+    public void setCategoryNames(Function<Category, String> categoryNames) {
+        this.categoryNames = categoryNames;
     }
     
     @Override
     public void initialize() {
-        System.out.println("╔═══════════════════════════════════╗");
-        System.out.println("║     ¡BIENVENIDO AL AHORCADO!      ║");
-        System.out.println("╚═══════════════════════════════════╝");
-        System.out.println();
+        out.println("╔═══════════════════════════════════╗");
+        out.println("║     ¡BIENVENIDO AL AHORCADO!      ║");
+        out.println("╚═══════════════════════════════════╝");
+        out.println();
     }
     
     @Override
     public void cleanup() {
-        System.out.println("¡Gracias por jugar! ¡Hasta luego!");
+        out.println("¡Gracias por jugar! ¡Hasta luego!");
     }
     
     @Override
     public void displayGameState(GameState state) {
-        System.out.println("┌─────────────────────────────────┐");
-        System.out.println("│ Palabra: " + formatMaskedWord(state.getMaskedWord()) + " │");
-        System.out.println("│ Intentos restantes: " + state.getAttemptsLeft() + "           │");
-        System.out.println("│ Errores: " + state.getErrors() + "                 │");
-        System.out.println("│ Pistas usadas: " + state.getHintsUsed() + "/" + state.getMaxHints() + "            │");
-        System.out.println("└─────────────────────────────────┘");
-        System.out.println();
+        out.println("┌─────────────────────────────────┐");
+        out.println("│ Palabra: " + formatMaskedWord(state.getMaskedWord()) + " │");
+        out.println("│ Intentos restantes: " + state.getAttemptsLeft() + "           │");
+        out.println("│ Errores: " + state.getErrors() + "                 │");
+        out.println("│ Pistas usadas: " + state.getHintsUsed() + "/" + state.getMaxHints() + "            │");
+        out.println("└─────────────────────────────────┘");
+        out.println();
     }
     
     @Override
     public Difficulty requestDifficulty() {
-        System.out.println("\nSelecciona la dificultad:");
-        System.out.println("  1. FÁCIL   - " + Difficulty.FACIL.getMaxAttempts() + " intentos, " + Difficulty.FACIL.getMaxHints() + " pistas");
-        System.out.println("  2. MEDIO   - " + Difficulty.MEDIO.getMaxAttempts() + " intentos, " + Difficulty.MEDIO.getMaxHints() + " pistas");
-        System.out.println("  3. DIFÍCIL - " + Difficulty.DIFICIL.getMaxAttempts() + " intentos, " + Difficulty.DIFICIL.getMaxHints() + " pistas");
-        System.out.print("\nOpción (1-3, Enter para MEDIO): ");
+        return requestDifficulty(Difficulty.MEDIO);
+    }
+    
+    @Override
+    public Difficulty requestDifficulty(Difficulty suggested) {
+        out.println("\nSelecciona la dificultad:");
+        out.println("  1. FÁCIL   - " + Difficulty.FACIL.getMaxAttempts() + " intentos, " + Difficulty.FACIL.getMaxHints() + " pistas");
+        out.println("  2. MEDIO   - " + Difficulty.MEDIO.getMaxAttempts() + " intentos, " + Difficulty.MEDIO.getMaxHints() + " pistas");
+        out.println("  3. DIFÍCIL - " + Difficulty.DIFICIL.getMaxAttempts() + " intentos, " + Difficulty.DIFICIL.getMaxHints() + " pistas");
+        out.print("\nOpción (1-3, Enter para " + suggested.name() + "): ");
         
-        String choice = scanner.nextLine().trim();
+        String choice = readLine("").trim();
         
         switch (choice) {
             case "1":
                 return Difficulty.FACIL;
+            case "2":
+                return Difficulty.MEDIO;
             case "3":
                 return Difficulty.DIFICIL;
-            case "2":
             case "":
             default:
-                return Difficulty.MEDIO;
+                return suggested;
         }
     }
     
@@ -70,14 +103,14 @@ public class ConsoleGameView implements GameView {
     public Optional<Category> requestCategory() {
         Category[] categories = Category.values();
         
-        System.out.println("Selecciona una categoría:");
+        out.println("Selecciona una categoría:");
         for (int i = 0; i < categories.length; i++) {
-            System.out.println("  " + (i + 1) + ". " + categories[i].getDisplayName());
+            out.println("  " + (i + 1) + ". " + categoryNames.apply(categories[i]));
         }
-        System.out.println("  " + (categories.length + 1) + ". ALEATORIA (cualquier categoría)");
-        System.out.print("\nOpción (1-" + (categories.length + 1) + "): ");
+        out.println("  " + (categories.length + 1) + ". ALEATORIA (cualquier categoría)");
+        out.print("\nOpción (1-" + (categories.length + 1) + "): ");
         
-        String choice = scanner.nextLine().trim();
+        String choice = readLine("").trim();
         
         try {
             int option = Integer.parseInt(choice);
@@ -96,55 +129,74 @@ public class ConsoleGameView implements GameView {
     @Override
     public String requestInput() {
         displayMenu();
-        return scanner.nextLine();
+        // Fin de la entrada: se trata como SALIR para no quedar en un bucle
+        return readLine("SALIR");
     }
     
     private void displayMenu() {
-        System.out.println("Comandos disponibles:");
-        System.out.println("  • Escribe una LETRA para adivinar");
-        System.out.println("  • 1 o CATEGORIA - Pista de categoría");
-        System.out.println("  • 2 o LETRA - Revelar una letra aleatoria");
-        System.out.println("  • 3 o PISTA - Mostrar pista de texto");
-        System.out.println("  • 4 o AYUDA - Mostrar esta ayuda");
-        System.out.println("  • SALIR - Terminar el juego");
-        System.out.print("\nTu elección: ");
+        out.println("Comandos disponibles:");
+        out.println("  • Escribe una LETRA para adivinar");
+        out.println("  • LETRAS AEIO - Probar varias letras");
+        out.println("  • PALABRA <palabra> - Arriesgar la palabra completa");
+        out.println("  • 1 o CATEGORIA - Pista de categoría");
+        out.println("  • 2 o LETRA - Pista de letra");
+        out.println("  • 3 o PISTA - Mostrar pista de texto");
+        out.println("  • 4 o AYUDA - Mostrar esta ayuda");
+        out.println("  • SALIR - Terminar el juego");
+        out.print("\nTu elección: ");
     }
     
     @Override
     public void showMessage(String message) {
-        System.out.println(message);
+        out.println(message);
     }
     
     @Override
     public void showError(String error) {
-        System.out.println(error);
+        out.println(error);
     }
     
     @Override
     public void showFinalResult(GameState state) {
-        System.out.println("\n╔═══════════════════════════════════╗");
+        out.println("\n╔═══════════════════════════════════╗");
         if (state.isWon()) {
-            System.out.println("║      ¡¡¡FELICIDADES!!!           ║");
-            System.out.println("║      ¡HAS GANADO!                ║");
+            out.println("║      ¡¡¡FELICIDADES!!!           ║");
+            out.println("║      ¡HAS GANADO!                ║");
         } else {
-            System.out.println("║      ¡PERDISTE!                  ║");
-            System.out.println("║      Se te acabaron los intentos ║");
+            out.println("║      ¡PERDISTE!                  ║");
+            out.println("║      Se te acabaron los intentos ║");
         }
-        System.out.println("╚═══════════════════════════════════╝");
-        System.out.println();
-        System.out.println("La palabra era: " + state.getCurrentWord().getWord());
-        System.out.println("Categoría: " + state.getCurrentWord().getCategory());
-        System.out.println("Errores cometidos: " + state.getErrors());
-        System.out.println();
+        out.println("╚═══════════════════════════════════╝");
+        out.println();
+        out.println("La palabra era: " + state.getCurrentWord().getWord());
+        out.println("Categoría: " + state.getCurrentWord().getCategory());
+        out.println("Errores cometidos: " + state.getErrors());
+        out.println();
     }
     
     @Override
     public boolean askPlayAgain() {
-        System.out.print("\n¿Deseas jugar otra vez? (s/n): ");
-        String response = scanner.nextLine().trim().toLowerCase();
+        out.print("\n¿Deseas jugar otra vez? (s/n): ");
+        String response = readLine("n").trim().toLowerCase();
         return response.equals("s") || response.equals("si") || response.equals("y") || response.equals("yes");
     }
     
+    /**
+     * Lee la siguiente línea de la entrada.
+     * @param atEnd valor a retornar si la entrada se terminó
+     */
+    private String readLine(String atEnd) {
+        if (scanner != null) {
+            return scanner.hasNextLine() ? scanner.nextLine() : atEnd;
+        }
+        try {
+            String line = reader.readLine();
+            return line != null ? line : atEnd;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     private String formatMaskedWord(String masked) {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < masked.length(); i++) {
@@ -0,0 +1,160 @@
+package com.poo.ahorcado.ui.console;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.logic.WordDeck;
+import com.poo.ahorcado.logic.WordSelector;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.ui.GameController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Modo de reproducción: alimenta un script de entradas (dificultad, categoría,
+ * letras y comandos) al GameController y ConsoleGameView reales, sin Scanner
+ * ni consola interactiva, y reporta turnos por segundo.
+ *
+ * Uso:
+ *   java com.poo.ahorcado.ui.console.ReplayRunner [--script archivo] [--games N]
+ *        [--seed S] [--record archivo] [--echo]
+ *
+ * Si no se indica --script, el script se genera jugando partidas "sombra" con
+ * un WordBank y un WordDeck de la misma semilla, de modo que cada línea
+ * coincide con lo que el controlador va a pedir.
+ */
+public class ReplayRunner {
+
+    /** Orden de letras usado por el script generado (frecuencia en español). */
+    private static final String LETTER_ORDER = "EAOSRNIDLCTUMPBGVYQHFZJÑXKW";
+    
+    private static final String PLAYER = "replay";
+
+    public static void main(String[] args) throws IOException {
+        Path scriptFile = null;
+        Path recordFile = null;
+        int games = 1000;
+        long seed = 42L;
+        boolean echo = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--script": scriptFile = Path.of(args[++i]); break;
+                case "--record": recordFile = Path.of(args[++i]); break;
+                case "--games":  games = Integer.parseInt(args[++i]); break;
+                case "--seed":   seed = Long.parseLong(args[++i]); break;
+                case "--echo":   echo = true; break;
+                default:
+                    System.err.println("Argumento no reconocido: " + args[i]);
+                    return;
+            }
+        }
+
+        String script = scriptFile != null
+                ? Files.readString(scriptFile, StandardCharsets.UTF_8)
+                : generateScript(new WordBank(seed), games, seed);
+        if (recordFile != null) {
+            Files.writeString(recordFile, script, StandardCharsets.UTF_8);
+        }
+
+        CountingOutputStream sink = new CountingOutputStream(echo ? System.out : null);
+        PrintStream out = new PrintStream(sink, false, StandardCharsets.UTF_8);
+        long[] turns = new long[1];
+
+        ConsoleGameView view = new ConsoleGameView(new BufferedReader(new StringReader(script)), out) {
+            @Override
+            public String requestInput() {
+                turns[0]++;
+                return super.requestInput();
+            }
+        };
+        WordBank bank = new WordBank(seed);
+        GameController controller = new GameController(bank, view);
+        controller.setWordSelector(new WordDeck(bank, seed).forPlayer(PLAYER));
+
+        long start = System.nanoTime();
+        controller.run();
+        out.flush();
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("Turnos: %d en %.3f s (%.0f turnos/s), salida: %d bytes%n",
+                turns[0], seconds, turns[0] / seconds, sink.getCount());
+    }
+
+    /**
+     * Genera un script de entradas para el número de partidas indicado.
+     * Usa el mismo Game que el controlador sobre un WordBank con la misma
+     * semilla, por lo que las partidas avanzan igual durante la reproducción.
+     */
+    static String generateScript(WordBank shadowBank, int games, long seed) {
+        Random random = new Random(seed);
+        WordSelector shadowDeck = new WordDeck(shadowBank, seed).forPlayer(PLAYER);
+        Category[] categories = Category.values();
+        Difficulty[] difficulties = Difficulty.values();
+        StringBuilder sb = new StringBuilder();
+
+        for (int g = 0; g < games; g++) {
+            Difficulty difficulty = difficulties[random.nextInt(difficulties.length)];
+            int categoryOption = random.nextInt(categories.length + 1) + 1;
+            Optional<Category> category = categoryOption <= categories.length
+                    ? Optional.of(categories[categoryOption - 1])
+                    : Optional.empty();
+
+            sb.append(difficulty.ordinal() + 1).append('\n');
+            sb.append(categoryOption).append('\n');
+
+            Game game = new Game(shadowBank, new GameConfig(difficulty));
+            game.startNew(category, shadowDeck);
+
+            sb.append("CATEGORIA\n");
+            game.hintCategory();
+            for (int i = 0; i < LETTER_ORDER.length() && !game.isFinished(); i++) {
+                char c = LETTER_ORDER.charAt(i);
+                sb.append(c).append('\n');
+                game.guess(c);
+            }
+
+            sb.append(g < games - 1 ? "s" : "n").append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sumidero de salida que solo cuenta bytes (y opcionalmente los reenvía).
+     */
+    static class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            count++;
+            if (delegate != null) delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            if (delegate != null) delegate.write(b, off, len);
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
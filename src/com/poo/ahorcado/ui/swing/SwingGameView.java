@@ -8,6 +8,7 @@ import com.poo.ahorcado.ui.GameView;
 import javax.swing.*;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Implementación de GameView para Swing.
@@ -22,12 +23,20 @@ public class SwingGameView implements GameView {
     private CompletableFuture<Difficulty> difficultyFuture;
     private CompletableFuture<Optional<Category>> categoryFuture;
     private CompletableFuture<Boolean> playAgainFuture;
+    private volatile Function<Category, String> categoryNames = Category::getDisplayName;
     
     public SwingGameView() {
         // Inicializar componentes Swing aquí
         // Por ahora, usar diálogos para mantenerlo simple
     }
     
+    /**
+     * Nombres de categoría que se muestran (por ejemplo los de otro idioma).
+     */
+    public void setCategoryNames(Function<Category, String> categoryNames) {
+        this.categoryNames = categoryNames;
+    }
+    
     @Override
     public void initialize() {
         SwingUtilities.invokeLater(() -> {
@@ -97,14 +106,14 @@ public class SwingGameView implements GameView {
     public Optional<Category> requestCategory() {
         categoryFuture = new CompletableFuture<>();
         
+        Category[] categories = Category.values();
+        String[] options = new String[categories.length + 1];
+        for (int i = 0; i < categories.length; i++) {
+            options[i] = categoryNames.apply(categories[i]);
+        }
+        options[categories.length] = "ALEATORIA";
+        
         SwingUtilities.invokeLater(() -> {
-            Category[] categories = Category.values();
-            String[] options = new String[categories.length + 1];
-            for (int i = 0; i < categories.length; i++) {
-                options[i] = categories[i].getDisplayName();
-            }
-            options[categories.length] = "ALEATORIA";
-            
             int choice = JOptionPane.showOptionDialog(null,
                 "Selecciona una categoría:",
                 "Categoría",
@@ -137,9 +146,11 @@ public class SwingGameView implements GameView {
             String input = JOptionPane.showInputDialog(null,
                 "Ingresa una letra o comando:\n" +
                 "1 - Categoría\n" +
-                "2 - Letra aleatoria\n" +
+                "2 - Pista de letra\n" +
                 "3 - Pista\n" +
-                "4 - Ayuda",
+                "4 - Ayuda\n" +
+                "LETRAS AEIO - Varias letras\n" +
+                "PALABRA <palabra> - Palabra completa",
                 "Input",
                 JOptionPane.QUESTION_MESSAGE);
             
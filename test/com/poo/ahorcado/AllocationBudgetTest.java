@@ -0,0 +1,148 @@
+package com.poo.ahorcado;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.ui.GameController;
+import com.poo.ahorcado.ui.GameState;
+import com.poo.ahorcado.ui.GameView;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Verifica un presupuesto de bytes asignados por turno en el bucle del juego.
+ *
+ * Juega miles de turnos con Game y con GameController (sobre una vista que no
+ * hace nada) y mide los bytes asignados por el hilo actual usando
+ * com.sun.management.ThreadMXBean. Si algún caso supera su presupuesto, falla
+ * el test (y con él ant test).
+ *
+ * Presupuestos (bytes por operación), configurables por propiedad de sistema
+ * (test-sys-prop.* en nbproject/project.properties):
+ *   alloc.budget.guess       Game.guess
+ *   alloc.budget.turn        turno completo de GameController
+ */
+public class AllocationBudgetTest {
+
+    private static final String LETTERS = "EAOSRNIDLCTUMPBGVYQHFZJXKW";
+    private static final int WARMUP_TURNS = 200_000;
+    private static final int MEASURED_TURNS = 100_000;
+    private static final long GUESS_BUDGET = Long.getLong("alloc.budget.guess", 64);
+    private static final long TURN_BUDGET = Long.getLong("alloc.budget.turn", 512);
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static WordBank bank;
+
+    @BeforeClass
+    public static void setUp() {
+        assumeTrue("La JVM no soporta medir memoria asignada por hilo.",
+                THREADS.isThreadAllocatedMemorySupported());
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        bank = new WordBank(SyntheticWords.entries(10_000), 42L);
+    }
+
+    /**
+     * Game.guess se mide antes que el controlador: los listeners que agrega el
+     * controlador cambian el perfil del JIT en Game.guess.
+     */
+    @Test
+    public void turnsStayWithinBudget() {
+        guessLoop(bank, WARMUP_TURNS);
+        double perGuess = guessLoop(bank, MEASURED_TURNS);
+
+        controllerLoop(bank, WARMUP_TURNS);
+        double perTurn = controllerLoop(bank, MEASURED_TURNS);
+
+        report("Game.guess", perGuess, GUESS_BUDGET);
+        report("GameController (turno)", perTurn, TURN_BUDGET);
+        assertTrue("Game.guess: " + perGuess + " bytes/op supera el presupuesto de " + GUESS_BUDGET,
+                perGuess <= GUESS_BUDGET);
+        assertTrue("GameController: " + perTurn + " bytes/op supera el presupuesto de " + TURN_BUDGET,
+                perTurn <= TURN_BUDGET);
+    }
+
+    private static void report(String name, double perOp, long budget) {
+        System.out.printf("%-24s %8.1f bytes/op  (presupuesto %d)  %s%n",
+                name, perOp, budget, perOp <= budget ? "OK" : "EXCEDIDO");
+    }
+
+    /**
+     * Juega partidas hasta completar {@code turns} letras y retorna los bytes
+     * asignados por letra. Solo se mide Game.guess, no startNew.
+     */
+    private static double guessLoop(WordBank bank, int turns) {
+        Game game = new Game(bank, new GameConfig(Difficulty.FACIL));
+        long bytes = 0;
+        int done = 0;
+        while (done < turns) {
+            game.startNew(Optional.empty());
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            int i = 0;
+            while (i < LETTERS.length() && !game.isFinished() && done < turns) {
+                game.guess(LETTERS.charAt(i++));
+                done++;
+            }
+            bytes += THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        return (double) bytes / turns;
+    }
+
+    /**
+     * Ejecuta GameController.run con una vista sin salida y retorna los bytes
+     * asignados por turno (incluye inicio de partidas y snapshots de estado).
+     */
+    private static double controllerLoop(WordBank bank, int turns) {
+        ScriptedView view = new ScriptedView(turns);
+        GameController controller = new GameController(bank, view);
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        controller.run();
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - before;
+        return (double) bytes / view.turns;
+    }
+
+    /**
+     * Vista que no muestra nada y responde con letras en orden fijo.
+     */
+    private static class ScriptedView implements GameView {
+        private static final String[] INPUTS = new String[LETTERS.length()];
+        static {
+            for (int i = 0; i < LETTERS.length(); i++) {
+                INPUTS[i] = String.valueOf(LETTERS.charAt(i));
+            }
+        }
+
+        private final int maxTurns;
+        private int turns;
+        private int next;
+
+        ScriptedView(int maxTurns) {
+            this.maxTurns = maxTurns;
+        }
+
+        @Override public void displayGameState(GameState state) { }
+        @Override public Difficulty requestDifficulty() { next = 0; return Difficulty.FACIL; }
+        @Override public Optional<Category> requestCategory() { return Optional.empty(); }
+        @Override public void showMessage(String message) { }
+        @Override public void showError(String error) { }
+        @Override public void showFinalResult(GameState state) { }
+        @Override public boolean askPlayAgain() { return turns < maxTurns; }
+        @Override public void initialize() { }
+        @Override public void cleanup() { }
+
+        @Override
+        public String requestInput() {
+            turns++;
+            return INPUTS[next++ % INPUTS.length];
+        }
+    }
+}
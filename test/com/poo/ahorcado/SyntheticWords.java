@@ -0,0 +1,33 @@
+package com.poo.ahorcado;
+
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Palabras sintéticas y deterministas para los tests: de 3 a 12 letras A-Z,
+ * repartidas entre las categorías configuradas (mismo generador que los
+ * benchmarks).
+ */
+public final class SyntheticWords {
+
+    private static final long SEED = 0x5EEDL;
+
+    private SyntheticWords() {
+    }
+
+    public static List<WordEntry> entries(int size) {
+        Category[] categories = Category.values();
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<WordEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            char[] word = new char[random.nextInt(3, 13)];
+            for (int j = 0; j < word.length; j++) word[j] = (char) ('A' + random.nextInt(26));
+            entries.add(new WordEntry(new String(word), categories[i % categories.length], "Pista " + i));
+        }
+        return entries;
+    }
+}
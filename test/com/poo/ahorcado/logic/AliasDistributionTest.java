@@ -0,0 +1,116 @@
+package com.poo.ahorcado.logic;
+
+import com.poo.ahorcado.data.WordLoader;
+import com.poo.ahorcado.model.Category;
+import com.poo.ahorcado.model.WordEntry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prueba estadística de la selección con pesos de WordBank.
+ *
+ * Carga un words.json con pesos mediante WordLoader, elige muchas palabras
+ * con randomAny y randomByCategory, y compara las frecuencias observadas con
+ * las esperadas (proporcionales al peso) con una prueba chi-cuadrado con
+ * nivel 0.001. Usa semilla fija, así que el resultado es reproducible.
+ */
+public class AliasDistributionTest {
+
+    /** Cuantil 0.999 de la normal estándar. */
+    private static final double Z_999 = 3.0902;
+    private static final int SAMPLES = 1_000_000;
+    private static final long SEED = 42L;
+
+    private static List<WordEntry> entries;
+    private static WordBank bank;
+
+    @BeforeClass
+    public static void setUp() {
+        Category[] categories = Category.values();
+        // Pesos variados: 1..10, algunos muy altos y otros muy bajos
+        StringBuilder json = new StringBuilder("{\"words\":[");
+        int words = 200;
+        for (int i = 0; i < words; i++) {
+            double weight = i % 17 == 0 ? 25.0 : i % 13 == 0 ? 0.05 : 1 + i % 10;
+            if (i > 0) json.append(',');
+            json.append("{\"word\":\"PALABRA").append(letters(i)).append("\",\"category\":\"")
+                .append(categories[i % categories.length].getName()).append("\",\"hint\":\"Pista\",\"weight\":")
+                .append(weight).append('}');
+        }
+        json.append("]}");
+        entries = new WordLoader().loadWords(new StringReader(json.toString()));
+        bank = new WordBank(entries, SEED);
+    }
+
+    @Test
+    public void randomAnyFollowsWeights() {
+        check("randomAny", entries, bank::randomAny);
+    }
+
+    @Test
+    public void randomByCategoryFollowsWeights() {
+        for (Category category : Category.values()) {
+            List<WordEntry> inCategory = new ArrayList<>();
+            for (WordEntry e : entries) {
+                if (e.getCategory().equals(category)) inCategory.add(e);
+            }
+            check("randomByCategory(" + category.getName() + ")", inCategory,
+                    () -> bank.randomByCategory(category));
+        }
+    }
+
+    private static void check(String name, List<WordEntry> expected, Supplier<WordEntry> picker) {
+        Map<String, Integer> index = new HashMap<>();
+        double total = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            index.put(expected.get(i).getWord(), i);
+            total += expected.get(i).getWeight();
+        }
+        long[] observed = new long[expected.size()];
+        for (int s = 0; s < SAMPLES; s++) {
+            WordEntry picked = picker.get();
+            Integer i = index.get(picked.getWord());
+            assertNotNull(name + ": palabra fuera de la categoría: " + picked.getWord(), i);
+            observed[i]++;
+        }
+
+        double chi2 = 0;
+        for (int i = 0; i < observed.length; i++) {
+            double e = SAMPLES * expected.get(i).getWeight() / total;
+            chi2 += (observed[i] - e) * (observed[i] - e) / e;
+        }
+        int df = observed.length - 1;
+        double critical = chiSquareQuantile(df);
+        assertTrue(String.format("%s: chi2=%.2f supera el crítico(0.001)=%.2f con %d gl", name, chi2, critical, df),
+                chi2 <= critical);
+    }
+
+    /**
+     * Cuantil 0.999 de chi-cuadrado con {@code df} grados de libertad
+     * (aproximación de Wilson–Hilferty, precisa para df mayores que unos pocos).
+     */
+    private static double chiSquareQuantile(int df) {
+        double a = 2.0 / (9.0 * df);
+        double t = 1 - a + Z_999 * Math.sqrt(a);
+        return df * t * t * t;
+    }
+
+    private static String letters(int i) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('A' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return sb.toString();
+    }
+}
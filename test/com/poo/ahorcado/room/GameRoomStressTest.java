@@ -0,0 +1,178 @@
+package com.poo.ahorcado.room;
+
+import com.poo.ahorcado.SyntheticWords;
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.GuessResult;
+import com.poo.ahorcado.model.WordEntry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prueba de estrés de GameRoom: muchos jugadores por sala adivinan letras al
+ * mismo tiempo, en orden aleatorio.
+ *
+ * Verifica que cada letra de la palabra se revela exactamente una vez, que
+ * los fallos suman exactamente los errores de la sala y que un suscriptor
+ * que aplica los diffs llega a la misma palabra enmascarada.
+ *
+ * Por defecto corre 20 salas x 100 jugadores. La corrida grande se pide por
+ * propiedad de sistema (test-sys-prop.* en nbproject/project.properties):
+ *   ant test -Droom.stress.rooms=200 -Droom.stress.players=300
+ */
+public class GameRoomStressTest {
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZÑ";
+    private static final int ROOMS = Integer.getInteger("room.stress.rooms", 20);
+    private static final int PLAYERS = Integer.getInteger("room.stress.players", 100);
+
+    @Test
+    public void concurrentGuessesRevealEachLetterOnce() throws InterruptedException {
+        List<WordEntry> words = SyntheticWords.entries(ROOMS);
+        ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        List<String> failures = new ArrayList<>();
+        long start = System.nanoTime();
+        long guesses = 0;
+
+        try {
+            for (int r = 0; r < ROOMS; r++) {
+                // DIFICIL tiene pocos intentos: algunas salas pierden, otras ganan
+                GameConfig config = new GameConfig(r % 2 == 0 ? Difficulty.FACIL : Difficulty.DIFICIL);
+                GameRoom room = new GameRoom("sala-" + r, words.get(r), config, pool, 1 << 12);
+                DiffCollector collector = new DiffCollector(words.get(r).getWord().length());
+                room.subscribe(collector);
+
+                AtomicIntegerArray revealed = new AtomicIntegerArray(ALPHABET.length());
+                AtomicIntegerArray misses = new AtomicIntegerArray(ALPHABET.length());
+                CountDownLatch ready = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(PLAYERS);
+                for (int p = 0; p < PLAYERS; p++) {
+                    String playerId = "j" + p;
+                    long seed = r * 1_000_003L + p;
+                    pool.execute(() -> {
+                        try {
+                            ready.await();
+                            room.join(playerId);
+                            for (char c : shuffledAlphabet(seed)) {
+                                GuessResult result = room.guess(playerId, c);
+                                if (result == GuessResult.REVEALED) revealed.incrementAndGet(ALPHABET.indexOf(c));
+                                else if (result == GuessResult.MISS) misses.incrementAndGet(ALPHABET.indexOf(c));
+                                else if (result == GuessResult.FINISHED) break;
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                ready.countDown();
+                done.await();
+                room.close();
+                collector.completed.await(10, TimeUnit.SECONDS);
+
+                String error = verify(room, revealed, misses, collector);
+                if (error != null) {
+                    failures.add(room.getId() + " (" + room.getWord().getWord() + "): " + error);
+                }
+                guesses += (long) PLAYERS * ALPHABET.length();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("%d salas x %d jugadores en %.2f s (~%.0f intentos/s), fallos: %d%n",
+                ROOMS, PLAYERS, seconds, guesses / seconds, failures.size());
+        assertTrue(String.join("\n", failures), failures.isEmpty());
+    }
+
+    private static String verify(GameRoom room, AtomicIntegerArray revealed, AtomicIntegerArray misses,
+                                 DiffCollector collector) {
+        String word = room.getWord().getWord();
+        int totalMisses = 0;
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            char c = ALPHABET.charAt(i);
+            boolean inWord = word.indexOf(c) >= 0;
+            if (revealed.get(i) > 1 || (!inWord && revealed.get(i) != 0)) {
+                return "la letra " + c + " se reveló " + revealed.get(i) + " veces";
+            }
+            if (misses.get(i) > 1 || (inWord && misses.get(i) != 0)) {
+                return "la letra " + c + " contó " + misses.get(i) + " fallos";
+            }
+            totalMisses += misses.get(i);
+        }
+        if (totalMisses != room.getErrors()) {
+            return "fallos " + totalMisses + " != errores de la sala " + room.getErrors();
+        }
+        if (!room.isFinished()) {
+            return "la sala no terminó";
+        }
+        if (room.getDroppedCount() > 0) {
+            return room.getDroppedCount() + " diffs descartados";
+        }
+        String fromDiffs = collector.masked(word);
+        if (!fromDiffs.equals(room.getMaskedWord())) {
+            return "diffs '" + fromDiffs + "' != sala '" + room.getMaskedWord() + "'";
+        }
+        if (collector.errors != room.getErrors()) {
+            return "errores por diffs " + collector.errors + " != " + room.getErrors();
+        }
+        return null;
+    }
+
+    private static char[] shuffledAlphabet(long seed) {
+        char[] letters = ALPHABET.toCharArray();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = letters.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            char t = letters[i];
+            letters[i] = letters[j];
+            letters[j] = t;
+        }
+        return letters;
+    }
+
+    /**
+     * Suscriptor que aplica los diffs en el orden en que llegan.
+     */
+    private static class DiffCollector implements Flow.Subscriber<RoomDiff> {
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile long positions;
+        volatile int errors;
+
+        DiffCollector(int length) {
+            if (length > Long.SIZE) throw new IllegalArgumentException();
+        }
+
+        @Override public void onSubscribe(Flow.Subscription s) { s.request(Long.MAX_VALUE); }
+
+        @Override
+        public void onNext(RoomDiff diff) {
+            positions |= diff.getPositions();
+            errors = Math.max(errors, diff.getErrors());
+        }
+
+        @Override public void onError(Throwable t) { completed.countDown(); }
+        @Override public void onComplete() { completed.countDown(); }
+
+        String masked(String word) {
+            char[] m = new char[word.length()];
+            for (int i = 0; i < m.length; i++) {
+                m[i] = (word.charAt(i) == ' ' || (positions & (1L << i)) != 0) ? word.charAt(i) : '_';
+            }
+            return new String(m);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.poo.ahorcado.session;
+
+import com.poo.ahorcado.SyntheticWords;
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.config.GameConfig;
+import com.poo.ahorcado.logic.Game;
+import com.poo.ahorcado.logic.WordBank;
+import com.poo.ahorcado.model.WordEntry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Simula decenas de miles de sesiones remotas con un reloj falso: en cada
+ * paso simulado una parte de las sesiones juega una letra y el resto queda
+ * inactivo, y el registro expira las que pasaron el plazo.
+ *
+ * Verifica que ninguna sesión expire antes de tiempo ni dos veces y que
+ * ninguna inactiva siga abierta más de un tick después de su plazo.
+ * Informa el costo por jugada (touch) y por pasada de expiración.
+ */
+public class SessionExpiryTest {
+
+    private static final long TIMEOUT_MS = 30_000;
+    private static final long TICK_MS = 100;
+    private static final int SESSIONS = 50_000;
+    private static final int SECONDS = 90;
+
+    @Test
+    public void idleSessionsExpireOnTime() {
+        List<WordEntry> words = SyntheticWords.entries(10_000);
+        WordBank bank = new WordBank(words, 42L);
+        AtomicLong now = new AtomicLong(1_000_000);
+        long[] lastPlayed = new long[SESSIONS];
+        boolean[] evicted = new boolean[SESSIONS];
+        List<String> failures = new ArrayList<>();
+
+        SessionRegistry registry = new SessionRegistry(TIMEOUT_MS, TICK_MS, batch -> {
+            for (GameSession s : batch) {
+                int i = index(s);
+                long idle = now.get() - lastPlayed[i];
+                if (idle < TIMEOUT_MS || evicted[i]) {
+                    failures.add("Expiró antes de tiempo o dos veces: " + s.getId() + " (" + idle + " ms)");
+                }
+                evicted[i] = true;
+            }
+        }, now::get);
+
+        GameSession[] sessions = new GameSession[SESSIONS];
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < SESSIONS; i++) {
+            Game game = new Game(bank, new GameConfig(Difficulty.FACIL));
+            WordEntry word = words.get(i % words.size());
+            game.startNew(Optional.empty(), (c, d) -> word);
+            sessions[i] = registry.open("p" + i, game);
+            lastPlayed[i] = now.get();
+        }
+
+        long touchNanos = 0;
+        long touches = 0;
+        long expireNanos = 0;
+        long passes = 0;
+        for (int second = 0; second < SECONDS; second++) {
+            // 10 pasos de 100 ms por segundo; en cada uno juega ~1/50 de las sesiones
+            for (int step = 0; step < 10; step++) {
+                now.addAndGet(TICK_MS);
+                long t0 = System.nanoTime();
+                for (int k = 0; k < SESSIONS / 50; k++) {
+                    int i = random.nextInt(SESSIONS);
+                    // el primer tercio de las sesiones nunca vuelve a jugar
+                    if (i < SESSIONS / 3 || evicted[i]) continue;
+                    sessions[i].touch();
+                    lastPlayed[i] = now.get();
+                    touches++;
+                }
+                touchNanos += System.nanoTime() - t0;
+
+                long t1 = System.nanoTime();
+                registry.expire();
+                expireNanos += System.nanoTime() - t1;
+                passes++;
+            }
+            if (second % 30 == 29) {
+                overdue(sessions, lastPlayed, evicted, now.get(), failures);
+            }
+        }
+        overdue(sessions, lastPlayed, evicted, now.get(), failures);
+
+        int open = registry.size();
+        System.out.printf("%d sesiones, %d s simulados: %d expiradas, %d abiertas; "
+                + "touch: %.1f ns, pasada de expiración: %.1f us en promedio%n",
+                SESSIONS, SECONDS, registry.getEvictedCount(), open,
+                (double) touchNanos / Math.max(1, touches), expireNanos / 1000.0 / passes);
+        assertTrue(failures.size() + " problema(s), p. ej.: " + failures.subList(0, Math.min(5, failures.size())),
+                failures.isEmpty());
+        assertEquals("expiradas + abiertas", SESSIONS, registry.getEvictedCount() + open);
+        assertTrue("el primer tercio nunca vuelve a jugar y debe haber expirado", registry.getEvictedCount() >= SESSIONS / 3);
+    }
+
+    /**
+     * Agrega las sesiones que siguen abiertas aunque llevan inactivas más del
+     * plazo más un tick.
+     */
+    private static void overdue(GameSession[] sessions, long[] lastPlayed, boolean[] evicted, long now,
+                                List<String> failures) {
+        for (int i = 0; i < sessions.length; i++) {
+            if (!evicted[i] && now - lastPlayed[i] >= TIMEOUT_MS + TICK_MS) {
+                failures.add("Sigue abierta: " + sessions[i].getId() + " (" + (now - lastPlayed[i]) + " ms)");
+            }
+        }
+    }
+
+    private static int index(GameSession session) {
+        return Integer.parseInt(session.getPlayerId().substring(1));
+    }
+}
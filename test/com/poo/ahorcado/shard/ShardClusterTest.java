@@ -0,0 +1,170 @@
+package com.poo.ahorcado.shard;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prueba de un clúster local: lanza varios ShardNode como procesos aparte en
+ * loopback, los pone detrás de un ShardRouter y abre y juega sesiones a
+ * través del router por socket. Después agrega un nodo y quita otro.
+ *
+ * Verifica que cada cambio mueva solo las sesiones que cambian de dueño
+ * (al agregar el N-ésimo nodo, alrededor de 1/N), que todas las sesiones
+ * conserven su estado después de moverse y que sigan jugables.
+ */
+public class ShardClusterTest {
+
+    private static final String LETTERS = "AEIOSRNLTCDMUP";
+    private static final int NODES = 3;
+    private static final int SESSIONS = 1000;
+
+    private final List<Process> processes = new ArrayList<>();
+
+    @After
+    public void stopNodes() throws InterruptedException {
+        for (Process p : processes) p.destroy();
+        for (Process p : processes) p.waitFor(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void rebalancingMovesOnlyReassignedSessions() throws Exception {
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < NODES + 1; i++) {
+            Process p = startNode();
+            processes.add(p);
+            addresses.add(waitReady(p));
+        }
+        List<String> all = new ArrayList<>(addresses);
+        String extra = addresses.remove(addresses.size() - 1);     // se agrega más tarde
+
+        try (ShardRouter router = new ShardRouter(addresses)) {
+            router.serve(0);
+            try (NodeClient client = new NodeClient("127.0.0.1:" + router.getPort())) {
+                SplittableRandom random = new SplittableRandom(11);
+                Map<String, String> states = new HashMap<>();
+                for (int i = 0; i < SESSIONS; i++) {
+                    String[] opened = fields(client.send("OPEN", "j" + i, i % 2 == 0 ? "FACIL" : "MEDIO"));
+                    String id = opened[1];
+                    String reply = i % 5 == 0 ? client.send("HINT", id, "2") : null;
+                    for (int k = 0; k < 3; k++) {
+                        reply = client.send("GUESS", id, String.valueOf(LETTERS.charAt(random.nextInt(LETTERS.length()))));
+                    }
+                    states.put(id, stateOf(fields(reply), 2));
+                }
+                System.out.println(SESSIONS + " sesiones en " + addresses.size() + " nodos: " + sessionsPerNode(all));
+
+                // Agregar un nodo: se mueve ~1/(N+1) de las sesiones
+                int moved = Integer.parseInt(fields(client.send("ADDNODE", extra))[1]);
+                double fraction = (double) moved / SESSIONS;
+                double expected = 1.0 / (addresses.size() + 1);
+                System.out.printf("ADDNODE %s: %d sesiones movidas (%.1f%%, esperado ~%.1f%%)%n",
+                        extra, moved, 100 * fraction, 100 * expected);
+                assertTrue("Se movieron demasiadas o muy pocas sesiones: " + moved,
+                        fraction >= expected / 2 && fraction <= expected * 1.6);
+                verify(client, states);
+
+                // Seguir jugando después de moverse
+                for (String id : states.keySet()) {
+                    states.put(id, stateOf(fields(client.send("GUESS", id, "A")), 2));
+                }
+
+                // Quitar el primer nodo: se mueven exactamente sus sesiones
+                String removed = addresses.get(0);
+                int owned = sessionsOn(removed);
+                moved = Integer.parseInt(fields(client.send("REMOVENODE", removed))[1]);
+                System.out.println("REMOVENODE " + removed + ": " + moved + " sesiones movidas (tenía " + owned + ")");
+                assertEquals("sesiones movidas al quitar " + removed, owned, moved);
+                assertEquals("sesiones que quedaron en " + removed, 0, sessionsOn(removed));
+                verify(client, states);
+            }
+        }
+    }
+
+    /**
+     * Compara el estado de cada sesión (pedido por el router) con el esperado.
+     */
+    private static void verify(NodeClient client, Map<String, String> states) throws IOException {
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, String> e : states.entrySet()) {
+            String[] f = fields(client.send("STATE", e.getKey()));
+            if (!"OK".equals(f[0]) || !stateOf(f, 1).equals(e.getValue())) {
+                mismatches.add(e.getKey() + ": " + String.join(" ", f) + " vs " + e.getValue());
+            }
+        }
+        assertTrue(mismatches.size() + " sesión(es) con estado distinto, p. ej.: "
+                + mismatches.subList(0, Math.min(5, mismatches.size())), mismatches.isEmpty());
+    }
+
+    private static String stateOf(String[] f, int from) {
+        if (!"OK".equals(f[0])) throw new IllegalStateException(String.join(" ", f));
+        return String.join("|", Arrays.copyOfRange(f, from, f.length));
+    }
+
+    private static String[] fields(String reply) {
+        return reply.split("\t", -1);
+    }
+
+    private static int sessionsOn(String address) throws IOException {
+        try (NodeClient node = new NodeClient(address)) {
+            return Integer.parseInt(fields(node.send("PING"))[1]);
+        }
+    }
+
+    private static Map<String, Integer> sessionsPerNode(List<String> addresses) throws IOException {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String address : addresses) counts.put(address, sessionsOn(address));
+        return counts;
+    }
+
+    /**
+     * Lanza un ShardNode con el mismo classpath y la misma JVM que este proceso.
+     */
+    private static Process startNode() throws IOException {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        // mismas opciones de acceso que este proceso (p. ej. --enable-native-access)
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("--enable-")) command.add(arg);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardNode.class.getName());
+        command.add(String.valueOf(port));
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    /**
+     * Espera la línea "LISTO puerto" del nodo y retorna su dirección.
+     */
+    private static String waitReady(Process p) throws IOException {
+        BufferedReader out = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = out.readLine()) != null) {
+            if (line.startsWith("LISTO ")) return "127.0.0.1:" + line.substring(6).trim();
+        }
+        throw new IOException("El nodo terminó sin arrancar (código " + p.exitValue() + ")");
+    }
+}
@@ -0,0 +1,208 @@
+package com.poo.ahorcado.stats;
+
+import com.poo.ahorcado.config.Difficulty;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Prueba del registro de partidas mapeado en memoria (OutcomeRing):
+ *
+ * 1. Varios hilos escriben cientos de miles de registros mientras otro los
+ *    sigue con un OutcomeRingReader; mide registros/s y verifica que no
+ *    falte ninguno.
+ * 2. Con un archivo chico los escritores dan muchas vueltas mientras se lee:
+ *    el lector nunca debe aceptar un registro mezclado.
+ * 3. Un proceso aparte (el main de esta clase) escribe y muere con
+ *    Runtime.halt (sin cerrar ni forzar a disco); lo escrito tiene que
+ *    seguir en el archivo.
+ *
+ * Cada registro lleva datos que dependen unos de otros, así que un registro
+ * a medio escribir o mezclado se detecta.
+ */
+public class OutcomeRingTest {
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final int THREADS = Math.min(8, Runtime.getRuntime().availableProcessors());
+    private static final int PER_THREAD = 200_000;
+    private static final int CRASH_RECORDS = 100_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Proceso hijo de {@link #recordsSurviveProcessHalt}: escribe y muere sin cerrar.
+     */
+    public static void main(String[] args) throws Exception {
+        Path file = Path.of(args[0]);
+        int records = Integer.parseInt(args[1]);
+        OutcomeRing ring = OutcomeRing.open(file, records);
+        for (int i = 0; i < records; i++) record(ring, 0, i);
+        Runtime.getRuntime().halt(137);       // sin close ni flush
+    }
+
+    @Test
+    public void liveReaderSeesEveryRecord() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("grande.ring");
+        long total = (long) THREADS * PER_THREAD;
+        try (OutcomeRing ring = OutcomeRing.open(file, (int) Math.min(1 << 25, Long.highestOneBit(total) << 1))) {
+            Tail tail = new Tail(file);
+            tail.start();
+            long start = System.nanoTime();
+            write(ring, THREADS, PER_THREAD);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            tail.finish();
+            System.out.printf("%d hilos: %,d registros en %.2f s (%.1f M/s)%n", THREADS, total, seconds, total / seconds / 1e6);
+
+            assertEquals("registros mezclados en vivo", 0, tail.failures);
+            assertEquals("registros leídos en vivo", total, tail.delivered);
+            assertEquals("registros perdidos en vivo", 0, tail.skipped);
+            // Una segunda lectura completa, ya sin escritores
+            try (OutcomeRingReader reader = OutcomeRingReader.open(file)) {
+                Checker checker = new Checker(THREADS);
+                reader.poll(checker, new OutcomeRecord(), true);
+                assertEquals("registros mezclados", 0, checker.failures);
+                for (int t = 0; t < THREADS; t++) {
+                    assertEquals("registros del hilo " + t, PER_THREAD, checker.perThread[t]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void wrapAroundNeverYieldsTornRecords() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("chico.ring");
+        try (OutcomeRing ring = OutcomeRing.open(file, 1024)) {
+            Tail tail = new Tail(file);
+            tail.start();
+            write(ring, THREADS, PER_THREAD / 4);
+            tail.finish();
+            System.out.printf("Con vueltas: %,d escritos, %,d leídos en vivo, %,d pisados antes de leerlos%n",
+                    ring.getCursor(), tail.delivered, tail.skipped);
+            assertEquals("registros mezclados", 0, tail.failures);
+            assertEquals("leídos + perdidos", ring.getCursor(), tail.delivered + tail.skipped);
+        }
+    }
+
+    @Test
+    public void recordsSurviveProcessHalt() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("caida.ring");
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("--enable-")) command.add(arg);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(OutcomeRingTest.class.getName());
+        command.add(file.toString());
+        command.add(String.valueOf(CRASH_RECORDS));
+        int exit = new ProcessBuilder(command).inheritIO().start().waitFor();
+        assertEquals("código de salida del proceso que cae", 137, exit);
+
+        try (OutcomeRingReader reader = OutcomeRingReader.open(file)) {
+            Checker checker = new Checker(1);
+            reader.poll(checker, new OutcomeRecord(), true);
+            assertEquals("registros mezclados", 0, checker.failures);
+            assertEquals("registros después de la caída", CRASH_RECORDS, checker.count);
+        }
+    }
+
+    private static void write(OutcomeRing ring, int threads, int perThread) throws InterruptedException {
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) record(ring, id, i);
+            }, "ring-writer-" + t);
+            writers[t].start();
+        }
+        for (Thread w : writers) w.join();
+    }
+
+    // Los campos se derivan de (hilo, i) para detectar registros mezclados
+    private static void record(OutcomeRing ring, int thread, int i) {
+        ring.record(thread << 24 | (i & 0xFFFFFF), DIFFICULTIES[i % DIFFICULTIES.length], (i & 1) == 0,
+                    i % 7, i % 3, i);
+    }
+
+    private static final class Checker implements Consumer<OutcomeRecord> {
+        final long[] perThread;
+        long count;
+        int failures;
+
+        Checker(int threads) {
+            perThread = new long[threads];
+        }
+
+        @Override
+        public void accept(OutcomeRecord r) {
+            count++;
+            long i = r.getDurationMillis();
+            int thread = r.getWordId() >>> 24;
+            boolean ok = (r.getWordId() & 0xFFFFFF) == (i & 0xFFFFFF)
+                    && r.getDifficulty() == DIFFICULTIES[(int) (i % DIFFICULTIES.length)]
+                    && r.isWon() == ((i & 1) == 0)
+                    && r.getErrors() == i % 7
+                    && r.getHintsUsed() == i % 3
+                    && thread < perThread.length;
+            if (!ok) {
+                if (failures++ < 5) System.err.println("Registro mezclado en la secuencia " + r.getSequence());
+                return;
+            }
+            perThread[thread]++;
+        }
+    }
+
+    /**
+     * Lector en vivo en su propio hilo, como lo haría otro proceso.
+     */
+    private static final class Tail extends Thread {
+        private final Path file;
+        private final AtomicBoolean done = new AtomicBoolean();
+        volatile long delivered;
+        volatile long skipped;
+        volatile int failures;
+
+        Tail(Path file) {
+            super("ring-tail");
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            try (OutcomeRingReader reader = OutcomeRingReader.open(file)) {
+                Checker checker = new Checker(256);
+                OutcomeRecord record = new OutcomeRecord();
+                long count = 0;
+                while (true) {
+                    boolean last = done.get();
+                    count += reader.poll(checker, record, false);
+                    if (last && reader.getPosition() == reader.getCursor()) break;
+                    if (last) Thread.onSpinWait();
+                }
+                delivered = count;
+                skipped = reader.getSkipped();
+                failures = checker.failures;
+            } catch (Exception e) {
+                e.printStackTrace();
+                failures = 1;
+            }
+        }
+
+        void finish() throws InterruptedException {
+            done.set(true);
+            join();
+        }
+    }
+}
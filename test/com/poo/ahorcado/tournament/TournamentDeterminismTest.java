@@ -0,0 +1,51 @@
+package com.poo.ahorcado.tournament;
+
+import com.poo.ahorcado.config.Difficulty;
+import com.poo.ahorcado.logic.WordBank;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Corre el mismo torneo (liga y eliminación, con la misma semilla) con
+ * distintos números de hilos y verifica que los resultados sean idénticos;
+ * muestra partidas/s de cada corrida.
+ */
+public class TournamentDeterminismTest {
+
+    private static final int GAMES = 100;
+    private static final int PLAYERS = 9;
+
+    @Test
+    public void resultsDoNotDependOnThreadCount() {
+        WordBank bank = new WordBank();
+        List<BotStrategy> strategies = Bots.all(bank);
+        List<BotStrategy> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) players.add(strategies.get(i % strategies.size()));
+
+        int[] threadCounts = {1, 2, Math.max(4, Runtime.getRuntime().availableProcessors())};
+        for (Tournament.Format format : Tournament.Format.values()) {
+            String expected = null;
+            for (int threads : threadCounts) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    TournamentReport report = new Tournament(bank, Difficulty.MEDIO, GAMES, 7L, pool).play(format, players);
+                    System.out.printf("%-12s %2d hilo(s): %,d partidas, %,.0f partidas/s%n",
+                            format.name().toLowerCase(), threads, report.getGames(), report.getGamesPerSecond());
+                    if (expected == null) {
+                        expected = report.fingerprint();
+                    } else {
+                        assertEquals("Resultado distinto con " + threads + " hilos en " + format,
+                                expected, report.fingerprint());
+                    }
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+}